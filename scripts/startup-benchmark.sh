@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+#
+# Compares the standard jar against the fast-startup artifact by measuring the time from
+# launching the JVM until the first request is served, and the resident set size (RSS)
+# right after that request.
+#
+# Build both artifacts first:
+#   ./mvnw -Pfast-startup clean package
+#
+# Usage: scripts/startup-benchmark.sh [runs] [port]
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR_NAME=code-words-0.0.1-SNAPSHOT.jar
+STANDARD_JAR=$ROOT/target/$JAR_NAME
+FAST_DIR=$ROOT/target/fast-startup
+
+for required in "$STANDARD_JAR" "$FAST_DIR/$JAR_NAME" "$FAST_DIR/application.jsa"; do
+    if [[ ! -f $required ]]; then
+        echo "Missing $required, build with: ./mvnw -Pfast-startup clean package" >&2
+        exit 1
+    fi
+done
+
+now_ms() {
+    date +%s%3N
+}
+
+# Launches the given command, polls until the first request is served and prints
+# "<time to first request in ms> <rss in kB>".
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/game/leaderboards"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before serving a request" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+run_mode() {
+    local mode=$1
+    shift
+    local total_ms=0 total_rss=0 result
+    for ((run = 1; run <= RUNS; run++)); do
+        result=$(measure "$@")
+        read -r ms rss <<< "$result"
+        printf '%-8s run %d: %6d ms %8d kB\n' "$mode" "$run" "$ms" "$rss"
+        total_ms=$((total_ms + ms))
+        total_rss=$((total_rss + rss))
+    done
+    printf '%-8s average: %6d ms %8d kB\n\n' "$mode" $((total_ms / RUNS)) $((total_rss / RUNS))
+}
+
+run_mode standard java -jar "$STANDARD_JAR"
+(cd "$FAST_DIR" && run_mode fast java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$JAR_NAME")
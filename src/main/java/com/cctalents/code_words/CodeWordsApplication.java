@@ -2,8 +2,10 @@ package com.cctalents.code_words;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CodeWordsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,16 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class AnalyticsProperties {
+
+    @Value("${game.analytics.snapshot-file:analytics/guess-analytics.bin}")
+    private String snapshotFile;
+    @Value("${game.analytics.snapshot-interval-ms:60000}")
+    private long snapshotIntervalMs;
+
+}
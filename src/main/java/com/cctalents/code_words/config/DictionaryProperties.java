@@ -0,0 +1,24 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@Data
+public class DictionaryProperties {
+
+    @Value("${game.dictionary.max-words:1000000}")
+    private long maxWords;
+    @Value("${game.dictionary.warm-locales:en}")
+    private List<String> warmLocales;
+    @Value("${game.dictionary.warm-popular:2}")
+    private int warmPopular;
+    @Value("${game.dictionary.import-batch-size:1000}")
+    private int importBatchSize;
+    @Value("${game.dictionary.import-directory:imports}")
+    private String importDirectory;
+
+}
@@ -1,5 +1,6 @@
 package com.cctalents.code_words.config;
 
+import com.cctalents.code_words.enums.Difficulty;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +13,23 @@ public class GameProperties {
     private String defaultPlayer;
     @Value("${game.default-difficulty:EASY}")
     private String defaultDifficulty;
+    @Value("${game.default-locale:en}")
+    private String defaultLocale;
     @Value("${game.allowed-attempts:6}")
     private int allowedAttempts;
+    @Value("${game.difficulty.easy.allowed-attempts:${game.allowed-attempts:6}}")
+    private int easyAllowedAttempts;
+    @Value("${game.difficulty.medium.allowed-attempts:${game.allowed-attempts:6}}")
+    private int mediumAllowedAttempts;
+    @Value("${game.difficulty.hard.allowed-attempts:${game.allowed-attempts:6}}")
+    private int hardAllowedAttempts;
+
+    public int getAllowedAttempts(Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> easyAllowedAttempts;
+            case MEDIUM -> mediumAllowedAttempts;
+            case HARD -> hardAllowedAttempts;
+        };
+    }
 
 }
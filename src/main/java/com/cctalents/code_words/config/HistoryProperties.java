@@ -0,0 +1,20 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class HistoryProperties {
+
+    @Value("${game.history.page-size:20}")
+    private int pageSize;
+    @Value("${game.history.max-page-size:100}")
+    private int maxPageSize;
+    @Value("${game.history.export-batch-size:500}")
+    private int exportBatchSize;
+    @Value("${game.history.export-timeout-ms:600000}")
+    private long exportTimeoutMs;
+
+}
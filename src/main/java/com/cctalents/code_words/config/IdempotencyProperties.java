@@ -0,0 +1,16 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class IdempotencyProperties {
+
+    @Value("${game.idempotency.max-entries:100000}")
+    private int maxEntries;
+    @Value("${game.idempotency.ttl-ms:600000}")
+    private long ttlMs;
+
+}
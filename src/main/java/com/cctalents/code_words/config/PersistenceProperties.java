@@ -0,0 +1,14 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class PersistenceProperties {
+
+    @Value("${game.persistence.max-update-attempts:3}")
+    private int maxUpdateAttempts;
+
+}
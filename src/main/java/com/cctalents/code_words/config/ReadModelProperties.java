@@ -0,0 +1,20 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class ReadModelProperties {
+
+    @Value("${game.read-model.max-staleness-ms:1000}")
+    private long maxStalenessMs;
+    @Value("${game.read-model.leaderboard-size:5}")
+    private int leaderboardSize;
+    @Value("${game.read-model.max-finished-games:10000}")
+    private int maxFinishedGames;
+    @Value("${game.read-model.hydrate-batch-size:1000}")
+    private int hydrateBatchSize;
+
+}
@@ -0,0 +1,24 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@Data
+public class SnapshotProperties {
+
+    @Value("${game.snapshot.directory:snapshots}")
+    private String directory;
+    @Value("${game.snapshot.interval-ms:60000}")
+    private long intervalMs;
+    @Value("${game.snapshot.retention:3}")
+    private int retention;
+    @Value("${game.snapshot.tables:games,tournaments,tournament_standings,player_stats,words}")
+    private List<String> tables;
+    @Value("${game.snapshot.restore-on-startup:true}")
+    private boolean restoreOnStartup;
+
+}
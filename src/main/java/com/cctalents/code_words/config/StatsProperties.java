@@ -0,0 +1,14 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class StatsProperties {
+
+    @Value("${game.stats.cache-size:10000}")
+    private int cacheSize;
+
+}
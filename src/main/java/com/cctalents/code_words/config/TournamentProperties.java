@@ -0,0 +1,18 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class TournamentProperties {
+
+    @Value("${game.tournament.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+    @Value("${game.tournament.publisher-threads:2}")
+    private int publisherThreads;
+    @Value("${game.tournament.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+}
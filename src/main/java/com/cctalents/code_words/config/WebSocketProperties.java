@@ -0,0 +1,20 @@
+package com.cctalents.code_words.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Data
+public class WebSocketProperties {
+
+    @Value("${game.websocket.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+    @Value("${game.websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+    @Value("${game.websocket.send-buffer-size-limit:4096}")
+    private int sendBufferSizeLimit;
+    @Value("${game.websocket.max-frame-size:64}")
+    private int maxFrameSize;
+
+}
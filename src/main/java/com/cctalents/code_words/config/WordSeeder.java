@@ -0,0 +1,59 @@
+package com.cctalents.code_words.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds the words table from the precomputed {@code words.csv} resource.
+ * <p>
+ * The whole list is sent as a single JDBC batch instead of replaying an SQL script
+ * statement by statement, and it runs once all singletons are created, which is
+ * before the web server starts accepting requests.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class WordSeeder implements SmartInitializingSingleton {
+
+    private static final String WORDS_LOCATION = "words.csv";
+    private static final String INSERT_WORD = "INSERT INTO words (name, difficulty, locale) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM words", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_WORD, readWords());
+    }
+
+    private List<Object[]> readWords() {
+        List<Object[]> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(WORDS_LOCATION).getInputStream(), StandardCharsets.UTF_8))) {
+            // skip the header
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    words.add(line.split(",", 3));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + WORDS_LOCATION, e);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,45 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.dto.LetterStatsResponse;
+import com.cctalents.code_words.dto.WordStatsResponse;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.service.GuessAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * AnalyticsController exposes the guess statistics collected in process for game designers.
+ */
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final GuessAnalyticsService analyticsService;
+
+    /**
+     * Retrieves how often each letter was guessed, guessed first and hit for a difficulty.
+     *
+     * @param difficulty the difficulty of the games the guesses were made in
+     * @return one entry per letter from a to z, then per accented letter of the supported
+     *         locales, followed by one for any other character
+     */
+    @GetMapping("/letters")
+    public List<LetterStatsResponse> getLetterStats(@RequestParam Difficulty difficulty) {
+        return analyticsService.getLetterStats(difficulty);
+    }
+
+    /**
+     * Retrieves the words causing the most misses, with a histogram of the remaining
+     * attempts their finished games ended with.
+     *
+     * @param limit the maximum number of words to return
+     * @return words sorted by misses in descending order
+     */
+    @GetMapping("/words")
+    public List<WordStatsResponse> getMostMissedWords(@RequestParam(defaultValue = "10") int limit) {
+        return analyticsService.getMostMissedWords(limit);
+    }
+}
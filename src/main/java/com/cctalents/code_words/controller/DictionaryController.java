@@ -0,0 +1,102 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.dictionary.WordListReader;
+import com.cctalents.code_words.dto.DictionaryStatsResponse;
+import com.cctalents.code_words.dto.WordImportResponse;
+import com.cctalents.code_words.dto.WordWeightsResponse;
+import com.cctalents.code_words.service.DictionaryService;
+import com.cctalents.code_words.service.WordImportService;
+import com.cctalents.code_words.service.WordService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * DictionaryController is responsible for handling HTTP requests about the word lists
+ * of the supported locales.
+ */
+@RestController
+@RequestMapping("/dictionaries")
+@RequiredArgsConstructor
+public class DictionaryController {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final DictionaryService service;
+    private final WordImportService importService;
+    private final WordService wordService;
+
+    /**
+     * Retrieves the state of the dictionary cache.
+     *
+     * @return the cached locales and their sizes, the hit rate, and the load and eviction counts
+     */
+    @GetMapping("/stats")
+    public DictionaryStatsResponse getStats() {
+        return service.getStats();
+    }
+
+    /**
+     * Imports the word list sent as the request body. The body is streamed, so lists of any
+     * size can be sent. Invalid rows are reported and skipped.
+     *
+     * @param request the request with a {@code text/csv} or {@code application/x-ndjson} body
+     * @param locale the locale of the words without one, the default locale if not given
+     * @return the import report with the row counts, throughput and first rejected rows
+     * @throws IOException if the request body cannot be opened
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public WordImportResponse importWords(HttpServletRequest request,
+                                          @RequestParam(required = false) String locale) throws IOException {
+        WordListReader.Format format = WordListReader.Format.of(MediaType.parseMediaType(request.getContentType()).getSubtype());
+        return importService.importWords(request.getInputStream(), format, locale, "request body");
+    }
+
+    /**
+     * Imports a word list file from the server's import directory.
+     *
+     * @param path the path of the file, relative to {@code game.dictionary.import-directory}
+     * @param format {@code CSV} or {@code NDJSON}, guessed from the file extension if not given
+     * @param locale the locale of the words without one, the default locale if not given
+     * @return the import report with the row counts, throughput and first rejected rows
+     */
+    @PostMapping(value = "/import", params = "path")
+    public WordImportResponse importFile(@RequestParam String path,
+                                         @RequestParam(required = false) WordListReader.Format format,
+                                         @RequestParam(required = false) String locale) {
+        return importService.importFile(path, format, locale);
+    }
+
+    /**
+     * Retrieves the progress of the running word import, or the report of the last one.
+     *
+     * @return the import report, or 404 if nothing was imported since startup
+     */
+    @GetMapping("/import")
+    public ResponseEntity<WordImportResponse> getLastImport() {
+        return ResponseEntity.of(importService.getLastImport());
+    }
+
+    /**
+     * Sets how often words are picked for new games, relative to the other words of their
+     * difficulty. Every word starts with a weight of 1, and a weight of 0 never picks the word,
+     * unless every word of its difficulty has a weight of 0, in which case they are all picked
+     * equally. The new weights are used once the dictionary has been rebuilt in the background.
+     *
+     * @param locale the locale of the words
+     * @param weights the new weight of each word, e.g. {@code {"pumpkin": 5, "apple": 0.5}}
+     * @return the number of words updated and the words not stored for the locale
+     */
+    @PutMapping("/{locale}/weights")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public WordWeightsResponse updateWeights(@PathVariable String locale, @RequestBody Map<String, Double> weights) {
+        return wordService.updateWeights(locale, weights);
+    }
+}
@@ -3,31 +3,31 @@ package com.cctalents.code_words.controller;
 import com.cctalents.code_words.dto.CreateGameRequest;
 import com.cctalents.code_words.dto.GameRequest;
 import com.cctalents.code_words.dto.GameResponse;
+import com.cctalents.code_words.dto.HintResponse;
 import com.cctalents.code_words.dto.LeaderBoardResponse;
 import com.cctalents.code_words.entity.Game;
-import com.cctalents.code_words.entity.Word;
-import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.jfr.LeaderboardEvent;
+import com.cctalents.code_words.jfr.RequestPhases;
+import com.cctalents.code_words.projection.GameView;
+import com.cctalents.code_words.service.GameQueryService;
 import com.cctalents.code_words.service.GameService;
-import com.cctalents.code_words.service.WordService;
-import com.cctalents.code_words.util.GameUtil;
+import com.cctalents.code_words.service.HintService;
+import com.cctalents.code_words.service.IdempotencyService;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * GameController is responsible for handling HTTP requests related to managing game sessions.
  * It exposes endpoints for creating a new game, making guesses, retrieving game state,
  * forfeiting games, and fetching leaderboard information.
  * <p>
- * This controller delegates game-related business logic to the GameService
- * and word-related operations to the WordService.
+ * This controller delegates game-related business logic to the GameService,
+ * while game state and leaderboard reads are served from the read model through
+ * the GameQueryService.
  * </p>
  */
 @RestController
@@ -36,7 +36,9 @@ import java.util.stream.Collectors;
 public class GameController {
 
     private final GameService service;
-    private final WordService wordService;
+    private final GameQueryService queryService;
+    private final HintService hintService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Creates a new game session based on the provided request.
@@ -46,13 +48,17 @@ public class GameController {
      *
      * @param request the object containing the game initialization parameters such as player name
      *                and difficulty level
+     * @param idempotencyKey an optional key making retries return the game created first
+     *                       instead of creating another one
      * @return the response containing the initialized game details, including the game's ID,
      *         masked word, remaining attempts, and game status
      */
     @PostMapping
     @JsonView(GameResponse.CreateGameView.class)
-    public GameResponse createGame(@RequestBody CreateGameRequest request) {
-        return toGameResponse(service.createGame(request));
+    public GameResponse createGame(@RequestBody CreateGameRequest request,
+                                   @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /game " + request,
+                () -> toGameResponse(service.createGame(request)));
     }
 
     /**
@@ -62,14 +68,18 @@ public class GameController {
      *
      * @param gameId the unique identifier of the game for which the guess is being made
      * @param request the object containing the user's guess, validated to ensure that the input is not null
+     * @param idempotencyKey an optional key making retries return the outcome of the first guess
+     *                       instead of guessing again
      * @return the response object representing the updated game state, including properties such as
      *         the game's ID, updated masked word, remaining attempts, and the current game status
      */
     @PostMapping("/{gameId}/guess")
     @JsonView(GameResponse.GuessView.class)
     public GameResponse guessWord(@PathVariable Long gameId,
-                                  @RequestBody @Valid GameRequest request) {
-        return toGameResponse(service.guess(gameId, request));
+                                  @RequestBody @Valid GameRequest request,
+                                  @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /game/" + gameId + "/guess " + request,
+                () -> toGameResponse(service.guess(gameId, request)));
     }
 
     /**
@@ -82,7 +92,19 @@ public class GameController {
     @GetMapping("/{gameId}")
     @JsonView(GameResponse.GameStateView.class)
     public GameResponse getGame(@PathVariable Long gameId) {
-        return toGameResponse(service.findGameById(gameId));
+        return toGameResponse(queryService.getGame(gameId));
+    }
+
+    /**
+     * Suggests the most informative next letter for a specific game. Every hint is counted
+     * against the game and lowers its position on the leaderboards.
+     *
+     * @param gameId the unique identifier of the game a hint is requested for
+     * @return the suggested letter, the number of words still possible and the hints used so far
+     */
+    @GetMapping("/{gameId}/hint")
+    public HintResponse hint(@PathVariable Long gameId) {
+        return hintService.hint(gameId);
     }
 
     @PostMapping("{gameId}/forfeit")
@@ -94,8 +116,8 @@ public class GameController {
     /**
      * Retrieves a filtered list of leaderboard entries categorized by difficulty level.
      * The leaderboard includes a limited number of top players for each difficulty, sorted
-     * by the number of remaining attempts in descending order. Only up to 5 top players are
-     * retained for each difficulty category.
+     * by the number of remaining attempts minus the hints used in descending order. Only up to the configured
+     * leaderboard size (5 by default) of top players are retained for each difficulty category.
      *
      * @return a list of {@code LeaderBoardResponse} objects representing the leaderboard
      * data across different difficulty levels, including player names, difficulties, and
@@ -104,39 +126,45 @@ public class GameController {
     @GetMapping("/leaderboards")
     @JsonView(LeaderBoardResponse.LeaderBoardsView.class)
     public List<LeaderBoardResponse> getLeaderboards() {
-        List<LeaderBoardResponse> topPlayers = service.getTopPlayers().stream()
-                .sorted(Comparator.comparingInt(Game::getRemainingAttempts).reversed())
-                .map(this::toLeaderBoardsResponse)
-                .toList();
-
-        Map<Difficulty, List<LeaderBoardResponse>> byDifficulty = topPlayers.stream()
-                .collect(Collectors.groupingBy(LeaderBoardResponse::getDifficulty));
-
-        List<LeaderBoardResponse> result = new ArrayList<>();
-        for (Map.Entry<Difficulty, List<LeaderBoardResponse>> entry : byDifficulty.entrySet()) {
-            // should just limit leaderboards per difficulty to 5
-            result.addAll(entry.getValue().stream()
-                    .limit(5)
-                    .toList());
+        LeaderboardEvent event = LeaderboardEvent.start();
+        try {
+            long t = event.mark();
+            List<GameView> leaders = queryService.getLeaderboards();
+            t = event.repository(t);
+            List<LeaderBoardResponse> result = leaders.stream()
+                    .map(this::toLeaderBoardsResponse)
+                    .toList();
+            event.domain(t);
+            event.setEntries(result.size());
+            return result;
+        } finally {
+            RequestPhases.complete(event);
         }
-
-        return result;
     }
 
     private GameResponse toGameResponse(Game game) {
         return GameResponse.builder()
                 .gameId(game.getId())
-                .maskedWord(GameUtil.spacesInBetween(game.getMaskedWord()))
+                .maskedWord(game.getMaskedWord())
+                .remainingAttempts(game.getRemainingAttempts())
+                .status(game.getStatus())
+                .build();
+    }
+
+    private GameResponse toGameResponse(GameView game) {
+        return GameResponse.builder()
+                .gameId(game.getId())
+                .maskedWord(game.getMaskedWord())
                 .remainingAttempts(game.getRemainingAttempts())
                 .status(game.getStatus())
                 .build();
     }
 
-    private LeaderBoardResponse toLeaderBoardsResponse(Game game) {
-        Word word = wordService.getWordByName(game.getWord());
-        LeaderBoardResponse result = new LeaderBoardResponse(game.getPlayer(), word.getDifficulty());
-        result.setMaskedWord(GameUtil.spacesInBetween(game.getMaskedWord()));
+    private LeaderBoardResponse toLeaderBoardsResponse(GameView game) {
+        LeaderBoardResponse result = new LeaderBoardResponse(game.getPlayer(), game.getDifficulty());
+        result.setMaskedWord(game.getMaskedWord());
         result.setRemainingAttempts(game.getRemainingAttempts());
+        result.setHintsUsed(game.getHintsUsed());
 
         return result;
     }
@@ -0,0 +1,139 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.config.WebSocketProperties;
+import com.cctalents.code_words.dto.GameRequest;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.ConcurrentGuessException;
+import com.cctalents.code_words.exception.GameAlreadyFinishedException;
+import com.cctalents.code_words.exception.MultipleGuessLetterNotAllowedException;
+import com.cctalents.code_words.exception.NoGameFoundException;
+import com.cctalents.code_words.service.GameService;
+import com.cctalents.code_words.util.GuessFrameCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GameWebSocketHandler lets a client play a single game over one WebSocket connection,
+ * so that every letter only costs a tiny frame instead of a full HTTP request and response.
+ * <p>
+ * The session is bound to the game in the path during the handshake. Each guess runs
+ * through the same {@link GameService} rules as the REST API, and the reply only carries
+ * what changed, see {@link GuessFrameCodec} for the frame format.
+ * </p>
+ * <p>
+ * Guesses of a session are handled one at a time, so a client that floods the socket is
+ * slowed down by TCP flow control. Replies go through a bounded send buffer and sessions
+ * that stop reading are closed, as are sessions that stay idle for too long.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class GameWebSocketHandler extends TextWebSocketHandler implements HandshakeInterceptor {
+
+    public static final String PATH = "/game/{gameId}/play";
+
+    private static final UriTemplate PATH_TEMPLATE = new UriTemplate(PATH);
+    private static final String GAME = "game";
+    private static final String GAME_ID = "gameId";
+    private static final String MASKED_WORD = "maskedWord";
+    private static final String EMPTY_GUESS = "Guess must not be empty";
+
+    private final GameService service;
+    private final WebSocketProperties properties;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Map<String, String> variables = PATH_TEMPLATE.match(request.getURI().getPath());
+        try {
+            Game game = service.findGameById(Long.valueOf(variables.get(GAME_ID)));
+            attributes.put(GAME_ID, game.getId());
+            attributes.put(GAME, game);
+            return true;
+        } catch (NoGameFoundException | NumberFormatException e) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        session.setTextMessageSizeLimit(properties.getMaxFrameSize());
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session container = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (container != null) {
+                container.setMaxIdleTimeout(properties.getIdleTimeoutMs());
+            }
+        }
+
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session,
+                properties.getSendTimeLimitMs(), properties.getSendBufferSizeLimit(),
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        sessions.put(session.getId(), decorated);
+
+        // the game loaded during the handshake is only needed for the first frame
+        Game game = (Game) session.getAttributes().remove(GAME);
+        session.getAttributes().put(MASKED_WORD, game.getMaskedWord());
+        decorated.sendMessage(new TextMessage(GuessFrameCodec.sync(game)));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        WebSocketSession decorated = sessions.get(session.getId());
+        if (decorated == null) {
+            return;
+        }
+
+        if (message.getPayloadLength() == 0) {
+            decorated.sendMessage(new TextMessage(GuessFrameCodec.error(EMPTY_GUESS)));
+            return;
+        }
+
+        GameRequest request = new GameRequest();
+        request.setGuess(message.getPayload());
+        try {
+            Game game = service.guess(gameId(session), request);
+            String previousMask = (String) session.getAttributes().put(MASKED_WORD, game.getMaskedWord());
+            decorated.sendMessage(new TextMessage(GuessFrameCodec.delta(previousMask, game)));
+
+            if (game.getStatus() != GameStatus.IN_PROGRESS) {
+                decorated.close(CloseStatus.NORMAL);
+            }
+        } catch (MultipleGuessLetterNotAllowedException | GameAlreadyFinishedException
+                 | NoGameFoundException | ConcurrentGuessException e) {
+            decorated.sendMessage(new TextMessage(GuessFrameCodec.error(e.getMessage())));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    private Long gameId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(GAME_ID);
+    }
+}
@@ -0,0 +1,95 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.config.HistoryProperties;
+import com.cctalents.code_words.dto.GameHistoryPageResponse;
+import com.cctalents.code_words.dto.PlayerStatsResponse;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.service.GameHistoryService;
+import com.cctalents.code_words.service.PlayerStatsService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * PlayerController is responsible for handling HTTP requests about a player's
+ * record and history across all of their games.
+ */
+@RestController
+@RequestMapping("/players")
+@RequiredArgsConstructor
+public class PlayerController {
+
+    private final PlayerStatsService statsService;
+    private final GameHistoryService historyService;
+    private final HistoryProperties historyProperties;
+
+    /**
+     * Retrieves the aggregated record of a player.
+     *
+     * @param name the name of the player
+     * @return the games played, won and lost, the current and best winning streaks, and
+     *         the average remaining attempts per difficulty
+     */
+    @GetMapping("/{name}/stats")
+    public PlayerStatsResponse getStats(@PathVariable String name) {
+        return statsService.getStats(name);
+    }
+
+    /**
+     * Rebuilds every player's aggregates from the finished games.
+     *
+     * @return the number of players whose aggregates were rebuilt
+     */
+    @PostMapping("/stats/rebuild")
+    public int rebuildStats() {
+        return statsService.rebuild();
+    }
+
+    /**
+     * Retrieves a page of a player's games, newest first. Pass the returned cursor to get
+     * the next page; it stays valid while new games are created.
+     *
+     * @param name the name of the player
+     * @param cursor the cursor of the page, none for the first page
+     * @param limit the number of games per page, capped at {@code game.history.max-page-size}
+     * @param status only games with this status, games without a guess yet count as IN_PROGRESS
+     * @param difficulty only games of this difficulty
+     * @return the games of the page, with the word of finished games, and the cursor of the next page
+     */
+    @GetMapping("/{name}/games")
+    public GameHistoryPageResponse getGames(@PathVariable String name,
+                                            @RequestParam(required = false) Long cursor,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) GameStatus status,
+                                            @RequestParam(required = false) Difficulty difficulty) {
+        return historyService.getHistory(name, cursor, limit, status, difficulty);
+    }
+
+    /**
+     * Streams every game of a player as newline-delimited JSON, newest first, however long
+     * the history is. The stream is written asynchronously and may run for up to
+     * {@code game.history.export-timeout-ms} instead of the default async request timeout.
+     *
+     * @param name the name of the player
+     * @param status only games with this status, games without a guess yet count as IN_PROGRESS
+     * @param difficulty only games of this difficulty
+     * @return one game per line, in the format of the pages
+     */
+    @GetMapping("/{name}/games/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(@PathVariable String name,
+                                                             @RequestParam(required = false) GameStatus status,
+                                                             @RequestParam(required = false) Difficulty difficulty,
+                                                             HttpServletRequest request) {
+        // applied when the streaming body starts async processing after this method returns
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(historyProperties.getExportTimeoutMs());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> historyService.export(name, status, difficulty, output));
+    }
+}
@@ -0,0 +1,95 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.dto.CreateTournamentRequest;
+import com.cctalents.code_words.dto.GameResponse;
+import com.cctalents.code_words.dto.JoinTournamentRequest;
+import com.cctalents.code_words.dto.StandingResponse;
+import com.cctalents.code_words.dto.TournamentResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.Tournament;
+import com.cctalents.code_words.service.TournamentService;
+import com.cctalents.code_words.service.TournamentStandingsService;
+import com.cctalents.code_words.util.GameUtil;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * TournamentController is responsible for handling HTTP requests related to tournaments.
+ * It exposes endpoints for opening a tournament, joining it, following its standings
+ * live and closing it. Guesses in a tournament game go through the regular game endpoints.
+ */
+@RestController
+@RequestMapping("/tournaments")
+@RequiredArgsConstructor
+public class TournamentController {
+
+    private final TournamentService service;
+    private final TournamentStandingsService standingsService;
+
+    @PostMapping
+    public TournamentResponse createTournament(@RequestBody CreateTournamentRequest request) {
+        return toTournamentResponse(service.createTournament(request));
+    }
+
+    @GetMapping("/{tournamentId}")
+    public TournamentResponse getTournament(@PathVariable Long tournamentId) {
+        return toTournamentResponse(service.findTournamentById(tournamentId));
+    }
+
+    /**
+     * Enters a player into an open tournament.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @param request the object containing the name of the joining player
+     * @return the player's game on the tournament word, played through the game endpoints
+     */
+    @PostMapping("/{tournamentId}/join")
+    @JsonView(GameResponse.CreateGameView.class)
+    public GameResponse join(@PathVariable Long tournamentId, @RequestBody JoinTournamentRequest request) {
+        Game game = service.join(tournamentId, request.getPlayer());
+        return GameResponse.builder()
+                .gameId(game.getId())
+                .maskedWord(game.getMaskedWord())
+                .remainingAttempts(game.getRemainingAttempts())
+                .status(game.getStatus())
+                .build();
+    }
+
+    @GetMapping("/{tournamentId}/standings")
+    public List<StandingResponse> getStandings(@PathVariable Long tournamentId) {
+        return standingsService.getStandings(tournamentId);
+    }
+
+    /**
+     * Streams the standings of a tournament as server-sent {@code standings} events,
+     * one with the current standings and one after every change until the tournament closes.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return the event stream
+     */
+    @GetMapping(value = "/{tournamentId}/standings/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStandings(@PathVariable Long tournamentId) {
+        return standingsService.subscribe(tournamentId);
+    }
+
+    /**
+     * Closes a tournament. Its final standings are recorded and can no longer change.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return the final standings
+     */
+    @PostMapping("/{tournamentId}/close")
+    public List<StandingResponse> close(@PathVariable Long tournamentId) {
+        return service.close(tournamentId);
+    }
+
+    private TournamentResponse toTournamentResponse(Tournament tournament) {
+        return new TournamentResponse(tournament.getId(), GameUtil.mask(tournament.getWord()),
+                tournament.getDifficulty(), tournament.getLocale(), tournament.getStatus());
+    }
+}
@@ -0,0 +1,112 @@
+package com.cctalents.code_words.dictionary;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker's alias table, drawing an index with probability proportional to its weight in
+ * constant time and without allocating.
+ * <p>
+ * Each of the n slots holds an index, its share of the slot and the alias filling the rest.
+ * A draw picks a slot uniformly and keeps its index or takes its alias depending on where a
+ * second uniform value falls, both taken from a single random double. The table is built
+ * with Vose's algorithm in linear time.
+ * </p>
+ */
+public final class AliasTable {
+
+    private final double[] shares;
+    private final int[] aliases;
+
+    private AliasTable(double[] shares, int[] aliases) {
+        this.shares = shares;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Builds the table of the given weights. When every weight is zero, indexes are drawn
+     * uniformly instead.
+     *
+     * @param weights the non-negative weight of each index
+     * @return the alias table
+     * @throws IllegalArgumentException if a weight is negative, infinite or not a number
+     */
+    public static AliasTable build(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight " + weight);
+            }
+            total += weight;
+        }
+
+        double[] shares = new double[n];
+        int[] aliases = new int[n];
+        // indexes below and above the average weight, used as stacks
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            shares[i] = total == 0 ? 1 : weights[i] * n / total;
+            aliases[i] = i;
+            if (shares[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            aliases[less] = more;
+            shares[more] -= 1 - shares[less];
+            if (shares[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // what is left is only off 1 by rounding errors
+        while (largeCount > 0) {
+            shares[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            shares[small[--smallCount]] = 1;
+        }
+        return new AliasTable(shares, aliases);
+    }
+
+    /**
+     * Draws an index.
+     *
+     * @param random the source of randomness, e.g. the thread's {@code ThreadLocalRandom}
+     * @return an index, with probability proportional to its weight
+     */
+    public int sample(RandomGenerator random) {
+        double u = random.nextDouble() * shares.length;
+        int slot = (int) u;
+        return u - slot < shares[slot] ? slot : aliases[slot];
+    }
+
+    /**
+     * @param index an index of the table
+     * @return the probability of drawing the index
+     */
+    public double probability(int index) {
+        double probability = 0;
+        for (int slot = 0; slot < shares.length; slot++) {
+            if (slot == index) {
+                probability += shares[slot];
+            }
+            if (aliases[slot] == index && slot != index) {
+                probability += 1 - shares[slot];
+            }
+        }
+        return probability / shares.length;
+    }
+
+    public int size() {
+        return shares.length;
+    }
+}
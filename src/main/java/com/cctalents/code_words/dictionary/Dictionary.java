@@ -0,0 +1,138 @@
+package com.cctalents.code_words.dictionary;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.projection.WordEntry;
+import com.cctalents.code_words.solver.WordIndex;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable in-memory word list of one locale.
+ * <p>
+ * The words of each difficulty are packed into a single char array with offsets instead
+ * of one String per word, which keeps large dictionaries to a few bytes per letter.
+ * The {@link WordIndex} used for hints is built over every word of the locale, and each
+ * difficulty has an {@link AliasTable} drawing its words by weight.
+ * </p>
+ */
+public final class Dictionary {
+
+    private final String locale;
+    private final Map<Difficulty, Bucket> buckets;
+    private final WordIndex index;
+    private final int size;
+
+    private Dictionary(String locale, Map<Difficulty, Bucket> buckets, WordIndex index, int size) {
+        this.locale = locale;
+        this.buckets = buckets;
+        this.index = index;
+        this.size = size;
+    }
+
+    /**
+     * Builds the dictionary of a locale where every word has the same weight.
+     */
+    public static Dictionary build(String locale, Map<Difficulty, List<String>> words) {
+        List<WordEntry> entries = new ArrayList<>();
+        words.forEach((difficulty, bucket) -> bucket.forEach(word -> entries.add(new WordEntry(word, difficulty, 1))));
+        return build(locale, entries);
+    }
+
+    /**
+     * Builds the dictionary of a locale from its words and their selection weights.
+     */
+    public static Dictionary build(String locale, List<WordEntry> entries) {
+        Map<Difficulty, List<WordEntry>> byDifficulty = new EnumMap<>(Difficulty.class);
+        List<String> all = new ArrayList<>(entries.size());
+        for (WordEntry entry : entries) {
+            byDifficulty.computeIfAbsent(entry.difficulty(), difficulty -> new ArrayList<>()).add(entry);
+            all.add(entry.name());
+        }
+        Map<Difficulty, Bucket> buckets = new EnumMap<>(Difficulty.class);
+        byDifficulty.forEach((difficulty, bucket) -> buckets.put(difficulty, new Bucket(bucket)));
+        return new Dictionary(locale, buckets, WordIndex.build(all), all.size());
+    }
+
+    /**
+     * Turns a locale as sent by clients (e.g. {@code "EN"} or {@code "pt_br"}) into the
+     * language tag dictionaries are stored under (e.g. {@code "en"} or {@code "pt-BR"}).
+     */
+    public static String normalize(String locale) {
+        return Locale.forLanguageTag(locale.trim().replace('_', '-')).toLanguageTag();
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public WordIndex getIndex() {
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int count(Difficulty difficulty) {
+        Bucket bucket = buckets.get(difficulty);
+        return bucket == null ? 0 : bucket.count();
+    }
+
+    /**
+     * Draws a word of a difficulty with probability proportional to its weight.
+     *
+     * @param difficulty a difficulty with at least one word
+     * @param random the source of randomness, e.g. the thread's {@code ThreadLocalRandom}
+     * @return the drawn word
+     */
+    public String sample(Difficulty difficulty, RandomGenerator random) {
+        Bucket bucket = buckets.get(difficulty);
+        if (bucket == null) {
+            throw new NoSuchElementException("No " + difficulty + " words");
+        }
+        return bucket.word(bucket.sampler.sample(random));
+    }
+
+    public String word(Difficulty difficulty, int position) {
+        Bucket bucket = buckets.get(difficulty);
+        if (bucket == null) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return bucket.word(position);
+    }
+
+    private static final class Bucket {
+
+        private final char[] letters;
+        // word i spans letters[offsets[i]] to letters[offsets[i + 1]]
+        private final int[] offsets;
+        private final AliasTable sampler;
+
+        private Bucket(List<WordEntry> words) {
+            offsets = new int[words.size() + 1];
+            double[] weights = new double[words.size()];
+            int length = 0;
+            for (int i = 0; i < words.size(); i++) {
+                length += words.get(i).name().length();
+                offsets[i + 1] = length;
+                weights[i] = words.get(i).weight();
+            }
+            letters = new char[length];
+            for (int i = 0; i < words.size(); i++) {
+                String name = words.get(i).name();
+                name.getChars(0, name.length(), letters, offsets[i]);
+            }
+            sampler = AliasTable.build(weights);
+        }
+
+        private int count() {
+            return offsets.length - 1;
+        }
+
+        private String word(int position) {
+            Objects.checkIndex(position, count());
+            return new String(letters, offsets[position], offsets[position + 1] - offsets[position]);
+        }
+    }
+}
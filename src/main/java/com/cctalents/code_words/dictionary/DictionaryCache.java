@@ -0,0 +1,185 @@
+package com.cctalents.code_words.dictionary;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Least recently used cache of dictionaries, bounded by the total number of words held.
+ * <p>
+ * Dictionaries are loaded on first use. Concurrent requests for a locale that is being
+ * loaded wait for that load instead of starting their own, and the lock is only held
+ * for bookkeeping, never while loading. When the bound is exceeded the least recently
+ * used dictionaries are dropped, but never the one just loaded.
+ * </p>
+ */
+public class DictionaryCache {
+
+    private final long maxWords;
+    private final Function<String, Dictionary> loader;
+    // access ordered, so iteration starts at the least recently used locale
+    private final LinkedHashMap<String, CompletableFuture<Dictionary>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long words;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public DictionaryCache(long maxWords, Function<String, Dictionary> loader) {
+        this.maxWords = maxWords;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the dictionary of a locale, loading it if it is not cached.
+     *
+     * @param locale the normalized locale
+     * @return the dictionary of the locale
+     */
+    public Dictionary get(String locale) {
+        return get(locale, true);
+    }
+
+    /**
+     * Loads the dictionary of a locale ahead of use, or marks it as recently used if it is
+     * already cached. Warm-ups are not counted as hits or misses.
+     *
+     * @param locale the normalized locale
+     */
+    public void warm(String locale) {
+        get(locale, false);
+    }
+
+    /**
+     * Loads the dictionary of a cached locale again and swaps it in once loaded. Until then
+     * the previous dictionary keeps being served, so readers never wait on a reload, and it
+     * stays cached if the reload fails. Locales that are not cached are left alone, they are
+     * loaded fresh on next use anyway.
+     *
+     * @param locale the normalized locale
+     * @return whether the locale was cached and has been reloaded
+     */
+    public boolean reload(String locale) {
+        synchronized (this) {
+            if (!entries.containsKey(locale)) {
+                return false;
+            }
+        }
+        long start = System.nanoTime();
+        Dictionary dictionary = loader.apply(locale);
+        loads.increment();
+        loadNanos.add(System.nanoTime() - start);
+        synchronized (this) {
+            if (!remove(locale)) {
+                // evicted while reloading
+                return false;
+            }
+            // a load still in flight for the replaced entry is no longer counted when it completes
+            entries.put(locale, CompletableFuture.completedFuture(dictionary));
+            words += dictionary.size();
+            evict(locale);
+        }
+        return true;
+    }
+
+    public synchronized DictionaryCacheStats stats() {
+        Map<String, Integer> cached = new LinkedHashMap<>();
+        entries.forEach((locale, future) -> {
+            Dictionary dictionary = future.getNow(null);
+            if (dictionary != null) {
+                cached.put(locale, dictionary.size());
+            }
+        });
+        long loadCount = loads.sum();
+        return new DictionaryCacheStats(cached, words, maxWords, hits.sum(), misses.sum(), loadCount,
+                evictions.sum(), loadCount == 0 ? 0 : loadNanos.sum() / loadCount / 1_000_000.0);
+    }
+
+    private Dictionary get(String locale, boolean counted) {
+        CompletableFuture<Dictionary> future;
+        boolean owner = false;
+        synchronized (this) {
+            future = entries.get(locale);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                entries.put(locale, future);
+                owner = true;
+            }
+        }
+        if (counted) {
+            (owner ? misses : hits).increment();
+        }
+        if (owner) {
+            load(locale, future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String locale, CompletableFuture<Dictionary> future) {
+        long start = System.nanoTime();
+        Dictionary dictionary;
+        try {
+            dictionary = loader.apply(locale);
+        } catch (RuntimeException e) {
+            // failed loads are not cached, the next request tries again
+            synchronized (this) {
+                entries.remove(locale, future);
+            }
+            future.completeExceptionally(e);
+            return;
+        }
+        loads.increment();
+        loadNanos.add(System.nanoTime() - start);
+        synchronized (this) {
+            if (entries.get(locale) == future) {
+                words += dictionary.size();
+                evict(locale);
+            }
+            // completed under the lock, so an entry is counted exactly when removing it subtracts its words
+            future.complete(dictionary);
+        }
+    }
+
+    private boolean remove(String locale) {
+        CompletableFuture<Dictionary> removed = entries.remove(locale);
+        Dictionary dictionary = removed == null ? null : removed.getNow(null);
+        if (dictionary != null) {
+            words -= dictionary.size();
+        }
+        return removed != null;
+    }
+
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, CompletableFuture<Dictionary>>> iterator = entries.entrySet().iterator();
+        while (words > maxWords && iterator.hasNext()) {
+            Map.Entry<String, CompletableFuture<Dictionary>> entry = iterator.next();
+            Dictionary dictionary = entry.getValue().getNow(null);
+            // dictionaries still loading are not counted yet
+            if (dictionary != null && !entry.getKey().equals(keep)) {
+                iterator.remove();
+                words -= dictionary.size();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the cache content and counters.
+     *
+     * @param locales the cached locales with their number of words, least recently used first
+     */
+    public record DictionaryCacheStats(Map<String, Integer> locales, long words, long maxWords, long hits,
+                                       long misses, long loads, long evictions, double averageLoadMillis) {
+    }
+}
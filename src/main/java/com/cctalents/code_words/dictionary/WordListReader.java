@@ -0,0 +1,150 @@
+package com.cctalents.code_words.dictionary;
+
+import com.cctalents.code_words.exception.InvalidWordImportException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a word list one line at a time, so that lists of any size can be imported
+ * without holding them in memory.
+ * <p>
+ * CSV lists start with a header naming the {@code name}, {@code difficulty} and optional
+ * {@code locale} columns in any order. NDJSON lists hold one object per line with the same
+ * fields. Blank lines are skipped. Lines that cannot be parsed are returned as rows with
+ * an error instead of failing the whole list, only a CSV header without the required
+ * columns does.
+ * </p>
+ */
+public class WordListReader implements Closeable {
+
+    private static final String NAME = "name";
+    private static final String DIFFICULTY = "difficulty";
+    private static final String LOCALE = "locale";
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectReader jsonReader;
+    private long line;
+    private int[] columns;
+
+    /**
+     * @param input the UTF-8 encoded list
+     * @param format the format of the list
+     * @param jsonReader the reader used to parse NDJSON lines
+     */
+    public WordListReader(InputStream input, Format format, ObjectReader jsonReader) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonReader = jsonReader;
+    }
+
+    /**
+     * Reads the next non-blank line of the list.
+     *
+     * @return the next row, or {@code null} at the end of the list
+     * @throws IOException if the list cannot be read
+     * @throws InvalidWordImportException if the CSV header lacks a required column
+     */
+    public Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        if (format == Format.NDJSON) {
+            return parseJson(text);
+        }
+        if (columns == null) {
+            columns = parseHeader(text);
+            if (columns == null) {
+                throw new InvalidWordImportException("The CSV header must name the name and difficulty columns");
+            }
+            return next();
+        }
+        return parseCsv(text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int[] parseHeader(String text) {
+        List<String> header = Arrays.stream(text.split(",", -1))
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] result = {header.indexOf(NAME), header.indexOf(DIFFICULTY), header.indexOf(LOCALE)};
+        return result[0] < 0 || result[1] < 0 ? null : result;
+    }
+
+    private Row parseCsv(String text) {
+        String[] values = text.split(",", -1);
+        int required = Math.max(columns[0], Math.max(columns[1], columns[2])) + 1;
+        if (values.length < required) {
+            return Row.invalid(line, "expected " + required + " columns but got " + values.length);
+        }
+        return new Row(line, values[columns[0]], values[columns[1]], columns[2] < 0 ? null : values[columns[2]], null);
+    }
+
+    private Row parseJson(String text) {
+        JsonNode node;
+        try {
+            node = jsonReader.readTree(text);
+        } catch (JsonProcessingException e) {
+            return Row.invalid(line, "malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return Row.invalid(line, "expected a JSON object");
+        }
+        return new Row(line, text(node, NAME), text(node, DIFFICULTY), text(node, LOCALE), null);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Guesses the format of a list from its file name or media subtype, e.g.
+         * {@code words.ndjson} or {@code x-ndjson}.
+         *
+         * @param name the file name or media subtype
+         * @return NDJSON for {@code ndjson} and {@code jsonl} names, CSV otherwise
+         */
+        public static Format of(String name) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            return lower.endsWith("ndjson") || lower.endsWith("jsonl") ? NDJSON : CSV;
+        }
+    }
+
+    /**
+     * A line of the list, with its fields as written.
+     *
+     * @param line the 1-based line number
+     * @param error why the line could not be parsed, or {@code null}
+     */
+    public record Row(long line, String name, String difficulty, String locale, String error) {
+
+        static Row invalid(long line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+    }
+}
@@ -9,4 +9,5 @@ public class CreateGameRequest {
 
     private String player;
     private String difficulty;
+    private String locale;
 }
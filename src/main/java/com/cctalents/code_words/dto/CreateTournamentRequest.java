@@ -0,0 +1,10 @@
+package com.cctalents.code_words.dto;
+
+import lombok.Data;
+
+@Data
+public class CreateTournamentRequest {
+
+    private String difficulty;
+    private String locale;
+}
@@ -0,0 +1,22 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class DictionaryStatsResponse {
+
+    // least recently used first
+    private Map<String, Integer> locales;
+    private long words;
+    private long maxWords;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long loads;
+    private long evictions;
+    private double averageLoadMillis;
+}
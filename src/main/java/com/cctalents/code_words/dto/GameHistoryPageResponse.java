@@ -0,0 +1,16 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class GameHistoryPageResponse {
+
+    // newest first
+    private List<GameHistoryResponse> games;
+    // the cursor of the next page, or null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.cctalents.code_words.dto;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.util.MaskedWordSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameHistoryResponse {
+
+    private Long gameId;
+    // only revealed once the game is finished
+    private String word;
+    @JsonSerialize(using = MaskedWordSerializer.class)
+    private String maskedWord;
+    private int remainingAttempts;
+    private GameStatus status;
+    private Difficulty difficulty;
+    private String locale;
+    private int hintsUsed;
+    private Long tournamentId;
+}
@@ -1,8 +1,10 @@
 package com.cctalents.code_words.dto;
 
 import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.util.MaskedWordSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +29,7 @@ public class GameResponse {
     @JsonView(IdView.class)
     private Long gameId;
     @JsonView(BasicView.class)
+    @JsonSerialize(using = MaskedWordSerializer.class)
     private String maskedWord;
     @JsonView(BasicView.class)
     private int remainingAttempts;
@@ -0,0 +1,14 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HintResponse {
+
+    private Long gameId;
+    private String letter;
+    private int candidates;
+    private int hintsUsed;
+}
@@ -0,0 +1,9 @@
+package com.cctalents.code_words.dto;
+
+import lombok.Data;
+
+@Data
+public class JoinTournamentRequest {
+
+    private String player;
+}
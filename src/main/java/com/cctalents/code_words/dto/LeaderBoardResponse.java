@@ -17,4 +17,11 @@ public class LeaderBoardResponse extends GameResponse {
     private String playerName;
     @JsonView(LeaderBoardsView.class)
     private Difficulty difficulty;
+    @JsonView(LeaderBoardsView.class)
+    private int hintsUsed;
+
+    public LeaderBoardResponse(String playerName, Difficulty difficulty) {
+        this.playerName = playerName;
+        this.difficulty = difficulty;
+    }
 }
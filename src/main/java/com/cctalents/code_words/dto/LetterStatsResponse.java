@@ -0,0 +1,15 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LetterStatsResponse {
+
+    private String letter;
+    private long guesses;
+    private long hits;
+    private double hitRate;
+    private long firstGuesses;
+}
@@ -0,0 +1,20 @@
+package com.cctalents.code_words.dto;
+
+import com.cctalents.code_words.enums.Difficulty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class PlayerStatsResponse {
+
+    private String player;
+    private int gamesPlayed;
+    private int gamesWon;
+    private int gamesLost;
+    private int currentStreak;
+    private int bestStreak;
+    private Map<Difficulty, Double> averageRemainingAttempts;
+}
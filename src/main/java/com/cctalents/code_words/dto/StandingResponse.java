@@ -0,0 +1,17 @@
+package com.cctalents.code_words.dto;
+
+import com.cctalents.code_words.enums.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StandingResponse {
+
+    private int rank;
+    private String player;
+    private Long gameId;
+    private GameStatus status;
+    private int attemptsUsed;
+    private Integer solvedOrder;
+}
@@ -0,0 +1,20 @@
+package com.cctalents.code_words.dto;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.TournamentStatus;
+import com.cctalents.code_words.util.MaskedWordSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TournamentResponse {
+
+    private Long tournamentId;
+    @JsonSerialize(using = MaskedWordSerializer.class)
+    private String maskedWord;
+    private Difficulty difficulty;
+    private String locale;
+    private TournamentStatus status;
+}
@@ -0,0 +1,30 @@
+package com.cctalents.code_words.dto;
+
+import com.cctalents.code_words.enums.ImportStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class WordImportResponse {
+
+    private ImportStatus status;
+    private String source;
+    private String format;
+    // non-blank lines read, excluding the CSV header
+    private long rows;
+    private long rejected;
+    // rows repeating a word of the same batch, only the last one is kept
+    private long duplicates;
+    private long upserted;
+    // words that did not exist before, the other upserted words were updated
+    private long inserted;
+    private long batches;
+    private long elapsedMillis;
+    private double wordsPerSecond;
+    private List<String> refreshedLocales;
+    // the first rejected rows, with their line number
+    private List<String> errors;
+}
@@ -0,0 +1,15 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WordStatsResponse {
+
+    private String word;
+    private long guesses;
+    private long misses;
+    // index is the number of remaining attempts a finished game ended with
+    private long[] remainingAttemptsHistogram;
+}
@@ -0,0 +1,16 @@
+package com.cctalents.code_words.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class WordWeightsResponse {
+
+    private String locale;
+    private int updated;
+    // words of the request not stored for the locale
+    private List<String> unknown;
+}
@@ -0,0 +1,21 @@
+package com.cctalents.code_words.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+
+@Embeddable
+@Data
+public class DifficultyStats {
+
+    private int games;
+    private int remainingAttempts;
+
+    public void record(int remaining) {
+        games++;
+        remainingAttempts += remaining;
+    }
+
+    public double averageRemainingAttempts() {
+        return games == 0 ? 0 : (double) remainingAttempts / games;
+    }
+}
@@ -1,5 +1,6 @@
 package com.cctalents.code_words.entity;
 
+import com.cctalents.code_words.enums.Difficulty;
 import com.cctalents.code_words.enums.GameStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -7,7 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-@Table(name = "games")
+@Table(name = "games", indexes = @Index(name = "idx_games_player_id", columnList = "player, id"))
 @Entity
 @Data
 @Builder
@@ -23,4 +24,13 @@ public class Game {
     private int remainingAttempts;
     private GameStatus status;
     private String player;
+    @Enumerated(EnumType.STRING)
+    private Difficulty difficulty;
+    private String locale;
+    @Builder.Default
+    private String missedLetters = "";
+    private int hintsUsed;
+    private Long tournamentId;
+    @Version
+    private long version;
 }
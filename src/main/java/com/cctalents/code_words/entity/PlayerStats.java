@@ -0,0 +1,73 @@
+package com.cctalents.code_words.entity;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregated record of a single player, maintained incrementally whenever one of
+ * the player's games is finished so it never has to be computed from the games table.
+ */
+@Table(name = "player_stats")
+@Entity
+@Data
+@NoArgsConstructor
+public class PlayerStats {
+
+    @Id
+    private String player;
+    private int gamesPlayed;
+    private int gamesWon;
+    private int gamesLost;
+    private int currentStreak;
+    private int bestStreak;
+
+    @Embedded
+    @AttributeOverride(name = "games", column = @Column(name = "easy_games"))
+    @AttributeOverride(name = "remainingAttempts", column = @Column(name = "easy_remaining_attempts"))
+    private DifficultyStats easy = new DifficultyStats();
+    @Embedded
+    @AttributeOverride(name = "games", column = @Column(name = "medium_games"))
+    @AttributeOverride(name = "remainingAttempts", column = @Column(name = "medium_remaining_attempts"))
+    private DifficultyStats medium = new DifficultyStats();
+    @Embedded
+    @AttributeOverride(name = "games", column = @Column(name = "hard_games"))
+    @AttributeOverride(name = "remainingAttempts", column = @Column(name = "hard_remaining_attempts"))
+    private DifficultyStats hard = new DifficultyStats();
+
+    public PlayerStats(String player) {
+        this.player = player;
+    }
+
+    /**
+     * Folds a finished game into the aggregates. Only the game's final state is needed,
+     * so the update is constant time regardless of how many games the player has.
+     *
+     * @param game a game with a status of WON or LOST
+     */
+    public void record(Game game) {
+        gamesPlayed++;
+        if (game.getStatus() == GameStatus.WON) {
+            gamesWon++;
+            currentStreak++;
+            bestStreak = Math.max(bestStreak, currentStreak);
+        } else {
+            gamesLost++;
+            currentStreak = 0;
+        }
+
+        if (game.getDifficulty() != null) {
+            statsFor(game.getDifficulty()).record(game.getRemainingAttempts());
+        }
+    }
+
+    public DifficultyStats statsFor(Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> easy;
+            case MEDIUM -> medium;
+            case HARD -> hard;
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.cctalents.code_words.entity;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.TournamentStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Table(name = "tournaments")
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tournament {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String word;
+    @Enumerated(EnumType.STRING)
+    private Difficulty difficulty;
+    private String locale;
+    @Enumerated(EnumType.STRING)
+    private TournamentStatus status;
+}
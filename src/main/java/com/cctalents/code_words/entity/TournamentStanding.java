@@ -0,0 +1,29 @@
+package com.cctalents.code_words.entity;
+
+import com.cctalents.code_words.enums.GameStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Table(name = "tournament_standings")
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentStanding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long tournamentId;
+    @Column(name = "standing_rank")
+    private int rank;
+    private String player;
+    private Long gameId;
+    private GameStatus status;
+    private int attemptsUsed;
+    private Integer solvedOrder;
+}
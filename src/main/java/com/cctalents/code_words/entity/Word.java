@@ -3,8 +3,9 @@ package com.cctalents.code_words.entity;
 import com.cctalents.code_words.enums.Difficulty;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
-@Table(name = "words")
+@Table(name = "words", uniqueConstraints = @UniqueConstraint(columnNames = {"name", "locale"}))
 @Entity
 @Data
 public class Word {
@@ -12,8 +13,12 @@ public class Word {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String name;
     @Enumerated(EnumType.STRING)
     private Difficulty difficulty;
+    private String locale;
+    // relative to the other words of the difficulty, 0 never picks the word unless all of them are 0
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private double weight = 1;
 }
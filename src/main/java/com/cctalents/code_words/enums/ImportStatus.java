@@ -0,0 +1,5 @@
+package com.cctalents.code_words.enums;
+
+public enum ImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class ConcurrentGuessException extends RuntimeException {
+
+    public ConcurrentGuessException(Long id) {
+        super(String.format("Game with id %d is being updated concurrently, try again", id));
+    }
+}
@@ -3,6 +3,7 @@ package com.cctalents.code_words.exception;
 import com.cctalents.code_words.dto.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -10,17 +11,33 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
-    @ExceptionHandler(value = NoGameFoundException.class)
+    @ExceptionHandler(value = {NoGameFoundException.class, NoPlayerFoundException.class,
+            NoTournamentFoundException.class})
     public ResponseEntity<ErrorResponse> handleNotFoundException(Exception ex) {
         HttpStatus status = HttpStatus.NOT_FOUND;
         return new ResponseEntity<>(new ErrorResponse(status.value(), ex.getMessage()), status);
     }
 
     @ExceptionHandler(value = {MultipleGuessLetterNotAllowedException.class,
-            GameAlreadyFinishedException.class})
+            GameAlreadyFinishedException.class, TournamentFinishedException.class,
+            UnsupportedLocaleException.class, InvalidWordImportException.class,
+            InvalidIdempotencyKeyException.class, InvalidWordWeightException.class})
     public ResponseEntity<ErrorResponse> handleBadRequests(Exception ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return new ResponseEntity<>(new ErrorResponse(status.value(), ex.getMessage()), status);
 
     }
+
+    @ExceptionHandler(value = {ConcurrentGuessException.class, ObjectOptimisticLockingFailureException.class,
+            WordImportInProgressException.class})
+    public ResponseEntity<ErrorResponse> handleConflicts(Exception ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return new ResponseEntity<>(new ErrorResponse(status.value(), ex.getMessage()), status);
+    }
+
+    @ExceptionHandler(value = {IdempotencyKeyMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleUnprocessableEntities(Exception ex) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        return new ResponseEntity<>(new ErrorResponse(status.value(), ex.getMessage()), status);
+    }
 }
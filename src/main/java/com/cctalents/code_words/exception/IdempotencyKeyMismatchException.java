@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String key) {
+        super(String.format("Idempotency key %s was already used for a different request", key));
+    }
+}
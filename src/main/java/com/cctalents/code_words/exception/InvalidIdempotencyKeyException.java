@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super(String.format("Idempotency keys must have 1 to %d characters", maxLength));
+    }
+}
@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class InvalidWordImportException extends RuntimeException {
+
+    public InvalidWordImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class InvalidWordWeightException extends RuntimeException {
+
+    public InvalidWordWeightException(String word, Double weight) {
+        super(String.format("Invalid weight %s for word %s, weights must be finite and not negative", weight, word));
+    }
+}
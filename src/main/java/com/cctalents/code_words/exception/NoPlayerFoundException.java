@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class NoPlayerFoundException extends RuntimeException {
+
+    public NoPlayerFoundException(String player) {
+        super(String.format("No finished games found for player %s", player));
+    }
+}
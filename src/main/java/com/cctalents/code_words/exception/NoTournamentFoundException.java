@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class NoTournamentFoundException extends RuntimeException {
+
+    public NoTournamentFoundException(Long id) {
+        super(String.format("Tournament not found with id %d", id));
+    }
+}
@@ -0,0 +1,10 @@
+package com.cctalents.code_words.exception;
+
+public class TournamentFinishedException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Tournament already finished";
+
+    public TournamentFinishedException() {
+        super(DEFAULT_MESSAGE);
+    }
+}
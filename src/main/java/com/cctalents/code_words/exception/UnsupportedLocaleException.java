@@ -0,0 +1,14 @@
+package com.cctalents.code_words.exception;
+
+import com.cctalents.code_words.enums.Difficulty;
+
+public class UnsupportedLocaleException extends RuntimeException {
+
+    public UnsupportedLocaleException(String locale) {
+        super(String.format("No words available for locale %s", locale));
+    }
+
+    public UnsupportedLocaleException(String locale, Difficulty difficulty) {
+        super(String.format("No %s words available for locale %s", difficulty, locale));
+    }
+}
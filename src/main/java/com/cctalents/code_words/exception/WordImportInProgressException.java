@@ -0,0 +1,8 @@
+package com.cctalents.code_words.exception;
+
+public class WordImportInProgressException extends RuntimeException {
+
+    public WordImportInProgressException() {
+        super("Another word import is in progress");
+    }
+}
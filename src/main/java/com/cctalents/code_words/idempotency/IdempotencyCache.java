@@ -0,0 +1,149 @@
+package com.cctalents.code_words.idempotency;
+
+import com.cctalents.code_words.exception.IdempotencyKeyMismatchException;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the results of operations, keyed by client supplied idempotency keys.
+ * <p>
+ * The first request with a key runs the operation, and requests repeating the key get its
+ * result without running it again, including requests arriving while it is still running.
+ * Results expire a fixed time after they were produced. Failures are not kept, so a retry
+ * after a failure runs the operation again. Produced results are queued in the order they
+ * were completed, which with a single time to live is also the order in which they expire,
+ * and the oldest are evicted beyond the bound. Operations still running are never evicted,
+ * so a retry never runs them twice; they are bounded by the requests in flight instead.
+ * </p>
+ */
+public class IdempotencyCache<V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    // completion order, may still hold entries replaced after they expired
+    private final Queue<Entry<V>> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public IdempotencyCache(int maxEntries, long ttlNanos, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs an operation once per key and returns its result to every request with that key.
+     *
+     * @param key the idempotency key
+     * @param fingerprint what the operation does, e.g. the request line and body, which must
+     *                    be the same for every request with the key
+     * @param operation the operation, only run if there is no result for the key
+     * @return the result of the operation
+     * @throws IdempotencyKeyMismatchException if the key was used for a different operation
+     */
+    public V execute(String key, String fingerprint, Supplier<V> operation) {
+        long now = clock.getAsLong();
+        expire(now);
+
+        Entry<V> created = new Entry<>(key, fingerprint);
+        Entry<V> entry;
+        while (true) {
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+                break;
+            }
+            if (!entry.isExpired(now)) {
+                break;
+            }
+            entries.remove(key, entry);
+        }
+
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        if (entry == created) {
+            run(created, operation);
+        }
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void run(Entry<V> entry, Supplier<V> operation) {
+        V result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            // the next retry runs the operation again, requests already waiting get the failure
+            entries.remove(entry.key, entry);
+            entry.result.completeExceptionally(e);
+            return;
+        }
+        synchronized (completed) {
+            // stamped and queued together, so the queue stays sorted by expiry
+            entry.expiresAt = clock.getAsLong() + ttlNanos;
+            completed.add(entry);
+        }
+        queued.incrementAndGet();
+        entry.result.complete(result);
+        evictOverflow();
+    }
+
+    private void expire(long now) {
+        Entry<V> head;
+        while ((head = completed.peek()) != null && (entries.get(head.key) != head || head.isExpired(now))) {
+            if (completed.remove(head)) {
+                queued.decrementAndGet();
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        // counting queued entries rather than cached ones also bounds the replaced entries not polled yet
+        while (queued.get() > maxEntries) {
+            Entry<V> head = completed.poll();
+            if (head == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            entries.remove(head.key, head);
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final String key;
+        private final String fingerprint;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        // set once the result is produced
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
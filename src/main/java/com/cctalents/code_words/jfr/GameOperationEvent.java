@@ -0,0 +1,77 @@
+package com.cctalents.code_words.jfr;
+
+import com.cctalents.code_words.entity.Game;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every game creation, guess and forfeit.
+ */
+@Name(GameOperationEvent.NAME)
+@Label("Game Operation")
+@Description("A game being created, guessed on or forfeited")
+@Category({"Code Words", "Game"})
+@StackTrace(false)
+public class GameOperationEvent extends PhasedEvent {
+
+    public static final String NAME = "com.cctalents.codewords.GameOperation";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Game Id")
+    private long gameId;
+
+    @Label("Difficulty")
+    private String difficulty;
+
+    @Label("Outcome")
+    @Description("The game status after the operation, or the exception it failed with")
+    private String outcome;
+
+    /**
+     * Starts timing a game operation.
+     *
+     * @param operation the operation name, e.g. {@code guess}
+     * @return the started event
+     */
+    public static GameOperationEvent start(String operation) {
+        GameOperationEvent event = new GameOperationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Records the game the operation ended with.
+     *
+     * @param game the created or updated game
+     * @return the same game
+     */
+    public Game result(Game game) {
+        if (isEnabled()) {
+            gameId = game.getId() == null ? 0L : game.getId();
+            difficulty = game.getDifficulty() == null ? null : game.getDifficulty().name();
+            outcome = game.getStatus() == null ? "NEW" : game.getStatus().name();
+        }
+        return game;
+    }
+
+    /**
+     * Records the game the operation was made on and the exception it failed with.
+     *
+     * @param gameId the identifier of the game, or {@code null} for a game not created yet
+     * @param e the failure
+     * @return the same exception, to be rethrown
+     */
+    public RuntimeException failure(Long gameId, RuntimeException e) {
+        if (isEnabled()) {
+            this.gameId = gameId == null ? 0L : gameId;
+            outcome = e.getClass().getSimpleName();
+        }
+        return e;
+    }
+}
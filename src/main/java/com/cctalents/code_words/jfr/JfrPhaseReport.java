@@ -0,0 +1,116 @@
+package com.cctalents.code_words.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Offline tool summarizing the game events of a JFR recording into per-phase latency
+ * percentiles, one line per event type and operation.
+ * <p>
+ * Record with {@code -XX:StartFlightRecording=filename=game.jfr,settings=profile}, then run
+ * {@code ./mvnw compile exec:java -Dexec.mainClass=com.cctalents.code_words.jfr.JfrPhaseReport
+ * -Dexec.args="game.jfr"}.
+ * </p>
+ */
+public class JfrPhaseReport {
+
+    public static final List<String> PHASES = List.of("total", "repository", "domain", "serialization");
+
+    private static final String PREFIX = "com.cctalents.codewords.";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: JfrPhaseReport <recording.jfr>");
+            System.exit(1);
+        }
+        Map<String, Breakdown> breakdowns = summarize(Path.of(args[0]));
+
+        System.out.printf("%-28s %-14s %8s %10s %10s %10s %10s%n",
+                "event", "phase", "count", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        breakdowns.forEach((key, breakdown) -> {
+            for (String phase : PHASES) {
+                System.out.printf("%-28s %-14s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                        key, phase, breakdown.count(),
+                        millis(breakdown.percentile(phase, 0.50)), millis(breakdown.percentile(phase, 0.95)),
+                        millis(breakdown.percentile(phase, 0.99)), millis(breakdown.percentile(phase, 1.0)));
+            }
+        });
+    }
+
+    /**
+     * Reads the game events of a recording and groups their phase durations by event
+     * type, and by operation for game operations.
+     *
+     * @param recording the JFR file
+     * @return the breakdowns sorted by key, e.g. {@code GameOperation/guess}
+     * @throws IOException if the recording cannot be read
+     */
+    public static Map<String, Breakdown> summarize(Path recording) throws IOException {
+        Map<String, List<long[]>> samples = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String type = event.getEventType().getName();
+                if (!type.startsWith(PREFIX)) {
+                    continue;
+                }
+                String key = type.substring(PREFIX.length());
+                if (event.hasField("operation")) {
+                    key += "/" + event.getString("operation");
+                }
+                samples.computeIfAbsent(key, k -> new ArrayList<>()).add(new long[]{
+                        event.getDuration().toNanos(),
+                        event.getDuration("repositoryNanos").toNanos(),
+                        event.getDuration("domainNanos").toNanos(),
+                        event.getDuration("serializationNanos").toNanos()
+                });
+            }
+        }
+
+        Map<String, Breakdown> result = new TreeMap<>();
+        samples.forEach((key, values) -> result.put(key, Breakdown.of(values)));
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Sorted durations of every phase of one event type.
+     */
+    public record Breakdown(int count, long[][] sortedNanos) {
+
+        static Breakdown of(List<long[]> samples) {
+            long[][] sorted = new long[PHASES.size()][samples.size()];
+            for (int i = 0; i < samples.size(); i++) {
+                for (int phase = 0; phase < PHASES.size(); phase++) {
+                    sorted[phase][i] = samples.get(i)[phase];
+                }
+            }
+            for (long[] phase : sorted) {
+                Arrays.sort(phase);
+            }
+            return new Breakdown(samples.size(), sorted);
+        }
+
+        /**
+         * @param phase one of {@link #PHASES}
+         * @param quantile between 0 and 1
+         * @return the duration in nanoseconds of the given quantile, by nearest rank
+         */
+        public long percentile(String phase, double quantile) {
+            long[] values = sortedNanos[PHASES.indexOf(phase)];
+            int rank = (int) Math.ceil(quantile * count);
+            return values[Math.max(0, rank - 1)];
+        }
+    }
+}
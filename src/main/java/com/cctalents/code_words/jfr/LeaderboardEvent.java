@@ -0,0 +1,33 @@
+package com.cctalents.code_words.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every leaderboard response built.
+ */
+@Name(LeaderboardEvent.NAME)
+@Label("Leaderboard Build")
+@Description("The leaderboards of every difficulty being built")
+@Category({"Code Words", "Game"})
+@StackTrace(false)
+public class LeaderboardEvent extends PhasedEvent {
+
+    public static final String NAME = "com.cctalents.codewords.Leaderboard";
+
+    @Label("Entries")
+    private int entries;
+
+    public static LeaderboardEvent start() {
+        LeaderboardEvent event = new LeaderboardEvent();
+        event.begin();
+        return event;
+    }
+
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+}
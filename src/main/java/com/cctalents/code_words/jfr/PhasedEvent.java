@@ -0,0 +1,75 @@
+package com.cctalents.code_words.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Timespan;
+
+/**
+ * Base class of the JFR events splitting an operation into repository, domain and
+ * serialization phases.
+ * <p>
+ * Phases are timed by handing the previous mark to the phase that just ended, e.g.
+ * {@code t = event.repository(t)}. While the event type is not being recorded every
+ * method returns right away without reading the clock.
+ * </p>
+ */
+public abstract class PhasedEvent extends Event {
+
+    // not private, JFR leaves out private fields of event superclasses
+    @Label("Repository")
+    @Description("Time spent reading and writing the database")
+    @Timespan
+    long repositoryNanos;
+
+    @Label("Domain")
+    @Description("Time spent in game rules and in-memory state")
+    @Timespan
+    long domainNanos;
+
+    @Label("Serialization")
+    @Description("Time spent writing the response body")
+    @Timespan
+    long serializationNanos;
+
+    /**
+     * @return the current time to start the first phase from, or 0 when not recording
+     */
+    public long mark() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Ends a repository phase started at the given mark.
+     *
+     * @param since the mark the phase started at
+     * @return the mark the next phase starts at
+     */
+    public long repository(long since) {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        repositoryNanos += now - since;
+        return now;
+    }
+
+    /**
+     * Ends a domain phase started at the given mark.
+     *
+     * @param since the mark the phase started at
+     * @return the mark the next phase starts at
+     */
+    public long domain(long since) {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        domainNanos += now - since;
+        return now;
+    }
+
+    void serialization(long nanos) {
+        serializationNanos += nanos;
+    }
+}
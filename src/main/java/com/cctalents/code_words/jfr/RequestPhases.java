@@ -0,0 +1,74 @@
+package com.cctalents.code_words.jfr;
+
+import jdk.jfr.EventType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the phased events of the HTTP request handled by the current thread until its
+ * response body is written, so that the serialization phase can be added to them.
+ * <p>
+ * A request is only tracked while one of the request events is being recorded. Events
+ * completed outside a tracked request, e.g. from a WebSocket frame, are committed right away.
+ * </p>
+ */
+public final class RequestPhases {
+
+    private static final ThreadLocal<RequestPhases> CURRENT = new ThreadLocal<>();
+    // looked up once, so that checking for a recording allocates nothing per request
+    private static final EventType GAME_OPERATION = EventType.getEventType(GameOperationEvent.class);
+    private static final EventType LEADERBOARD = EventType.getEventType(LeaderboardEvent.class);
+
+    private final List<PhasedEvent> pending = new ArrayList<>(2);
+    private long serializationStart;
+
+    private RequestPhases() {
+    }
+
+    /**
+     * Commits the given event, or holds it until the response body of the current
+     * request has been written.
+     *
+     * @param event the ended operation
+     */
+    public static void complete(PhasedEvent event) {
+        if (!event.isEnabled()) {
+            return;
+        }
+        RequestPhases phases = CURRENT.get();
+        if (phases == null) {
+            event.commit();
+        } else {
+            phases.pending.add(event);
+        }
+    }
+
+    static boolean isRecording() {
+        return GAME_OPERATION.isEnabled() || LEADERBOARD.isEnabled();
+    }
+
+    static void open() {
+        CURRENT.set(new RequestPhases());
+    }
+
+    static void startSerialization() {
+        RequestPhases phases = CURRENT.get();
+        if (phases != null && phases.serializationStart == 0L) {
+            phases.serializationStart = System.nanoTime();
+        }
+    }
+
+    static void close() {
+        RequestPhases phases = CURRENT.get();
+        if (phases == null) {
+            return;
+        }
+        CURRENT.remove();
+        long serialization = phases.serializationStart == 0L ? 0L : System.nanoTime() - phases.serializationStart;
+        for (PhasedEvent event : phases.pending) {
+            event.serialization(serialization);
+            event.commit();
+        }
+    }
+}
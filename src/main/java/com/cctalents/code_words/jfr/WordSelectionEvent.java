@@ -0,0 +1,60 @@
+package com.cctalents.code_words.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every random word picked for a new game. The repository phase
+ * covers getting the dictionary of the locale, which loads it on a cache miss.
+ */
+@Name(WordSelectionEvent.NAME)
+@Label("Word Selection")
+@Description("A random word being picked for a new game")
+@Category({"Code Words", "Words"})
+@StackTrace(false)
+public class WordSelectionEvent extends PhasedEvent {
+
+    public static final String NAME = "com.cctalents.codewords.WordSelection";
+
+    @Label("Locale")
+    private String locale;
+
+    @Label("Difficulty")
+    private String difficulty;
+
+    @Label("Candidates")
+    @Description("Number of words of the locale and difficulty")
+    private int candidates;
+
+    @Label("Failure")
+    @Description("The exception the selection failed with, if any")
+    private String failure;
+
+    public static WordSelectionEvent start(String locale, String difficulty) {
+        WordSelectionEvent event = new WordSelectionEvent();
+        event.locale = locale;
+        event.difficulty = difficulty;
+        event.begin();
+        return event;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * Records the exception the selection failed with.
+     *
+     * @param e the failure
+     * @return the same exception, to be rethrown
+     */
+    public RuntimeException failure(RuntimeException e) {
+        if (isEnabled()) {
+            failure = e.getClass().getSimpleName();
+        }
+        return e;
+    }
+}
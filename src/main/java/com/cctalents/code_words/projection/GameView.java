@@ -0,0 +1,49 @@
+package com.cctalents.code_words.projection;
+
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Denormalized, immutable read-side copy of a game, carrying everything the read
+ * endpoints need so that serving them never touches the write tables.
+ */
+@Value
+@Builder
+public class GameView {
+
+    Long id;
+    String player;
+    Difficulty difficulty;
+    String maskedWord;
+    int remainingAttempts;
+    GameStatus status;
+    int hintsUsed;
+    // version of the game row, views of the same game are only ever replaced by newer ones
+    long version;
+    // System.nanoTime() of the write this view was taken from
+    long writtenAt;
+
+    public static GameView of(Game game) {
+        return GameView.builder()
+                .id(game.getId())
+                .player(game.getPlayer())
+                .difficulty(game.getDifficulty())
+                .maskedWord(game.getMaskedWord())
+                .remainingAttempts(game.getRemainingAttempts())
+                .status(game.getStatus())
+                .hintsUsed(game.getHintsUsed())
+                .version(game.getVersion())
+                .writtenAt(System.nanoTime())
+                .build();
+    }
+
+    /**
+     * Leaderboard score of the game, every hint used costs as much as a wrong guess.
+     */
+    public int getScore() {
+        return remainingAttempts - hintsUsed;
+    }
+}
@@ -0,0 +1,11 @@
+package com.cctalents.code_words.projection;
+
+import com.cctalents.code_words.enums.Difficulty;
+
+/**
+ * The columns of a word needed to build a dictionary, read without managing entities.
+ *
+ * @param weight how often the word is picked relative to the other words of its difficulty
+ */
+public record WordEntry(String name, Difficulty difficulty, double weight) {
+}
@@ -1,15 +1,38 @@
 package com.cctalents.code_words.repository;
 
 import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
 import com.cctalents.code_words.enums.GameStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface GameRepository extends CrudRepository<Game, Long> {
+public interface GameRepository extends CrudRepository<Game, Long>, GameStateRepository {
 
-    Game findByPlayer(String player);
     List<Game> findAllByStatus(GameStatus status);
+    Stream<Game> streamAllByStatusInOrderByIdAsc(Collection<GameStatus> statuses);
+    List<Game> findAllByTournamentIdOrderByIdAsc(Long tournamentId);
+    List<Game> findAllByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    @Query("select g.locale from Game g where g.locale is not null group by g.locale order by count(g) desc")
+    List<String> findLocalesByPopularity(Limit limit);
+
+    /**
+     * Retrieves a page of a player's games, newest first, starting below the given id so that
+     * every page is a range scan of the (player, id) index. Games without a guess yet are
+     * matched as in progress. Ordering by the player as well, although it is fixed, lets H2
+     * read the index backwards instead of sorting every game of the player.
+     */
+    @Query("select g from Game g where g.player = :player and g.id < :before"
+            + " and (:status is null or coalesce(g.status, com.cctalents.code_words.enums.GameStatus.IN_PROGRESS) = :status)"
+            + " and (:difficulty is null or g.difficulty = :difficulty)"
+            + " order by g.player desc, g.id desc")
+    List<Game> findHistory(String player, long before, GameStatus status, Difficulty difficulty, Limit limit);
+
 }
@@ -0,0 +1,27 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.enums.GameStatus;
+
+public interface GameStateRepository {
+
+    /**
+     * Writes the outcome of a guess or forfeit in a single statement, provided the game
+     * was not changed since it was read.
+     *
+     * @param id the unique identifier of the game
+     * @param version the version of the game when it was read
+     * @return 1 if the game was updated, 0 if its version no longer matches
+     */
+    int updateState(Long id, long version, String maskedWord, int remainingAttempts,
+                    GameStatus status, String missedLetters);
+
+    /**
+     * Counts a hint against a game in a single statement, provided the game was not changed
+     * since it was read.
+     *
+     * @param id the unique identifier of the game
+     * @param version the version of the game when it was read
+     * @return 1 if the game was updated, 0 if its version no longer matches
+     */
+    int incrementHintsUsed(Long id, long version);
+}
@@ -0,0 +1,33 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.enums.GameStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC implementation of {@link GameStateRepository}. A JPQL bulk update is translated
+ * by Hibernate on every execution, which costs more than the merge it replaces.
+ */
+@RequiredArgsConstructor
+class GameStateRepositoryImpl implements GameStateRepository {
+
+    private static final String UPDATE_STATE = "UPDATE games SET masked_word = ?, remaining_attempts = ?, "
+            + "status = ?, missed_letters = ?, version = version + 1 WHERE id = ? AND version = ?";
+    private static final String INCREMENT_HINTS_USED = "UPDATE games SET hints_used = hints_used + 1, "
+            + "version = version + 1 WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateState(Long id, long version, String maskedWord, int remainingAttempts,
+                           GameStatus status, String missedLetters) {
+        // the status column is mapped by ordinal
+        return jdbcTemplate.update(UPDATE_STATE, maskedWord, remainingAttempts,
+                status == null ? null : status.ordinal(), missedLetters, id, version);
+    }
+
+    @Override
+    public int incrementHintsUsed(Long id, long version) {
+        return jdbcTemplate.update(INCREMENT_HINTS_USED, id, version);
+    }
+}
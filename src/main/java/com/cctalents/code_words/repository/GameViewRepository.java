@@ -0,0 +1,24 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.projection.GameView;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+/**
+ * Read side of the games, holding projections that are kept up to date from the write
+ * path. Implementations may live in memory or on a read replica, and are only written
+ * to by the projector.
+ */
+@NoRepositoryBean
+public interface GameViewRepository extends ReadRepository<GameView, Long> {
+    List<GameView> findLeaders(Difficulty difficulty);
+
+    /**
+     * Stores the view of a game unless a view of the same or a newer version is stored already.
+     *
+     * @param view the view to store
+     */
+    void save(GameView view);
+}
@@ -0,0 +1,101 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.config.ReadModelProperties;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.projection.GameView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the read model in memory. Only the leaders of each difficulty are kept
+ * sorted, and since won games never change again the sets are trimmed to the
+ * leaderboard size as soon as they grow past it. For the same reason only the most
+ * recently finished games are kept, older ones are read from the write path again.
+ */
+@Repository
+@ConditionalOnProperty(name = "game.read-model.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryGameViewRepository implements GameViewRepository {
+
+    private static final Comparator<GameView> LEADER_ORDER = Comparator
+            .comparingInt(GameView::getScore).reversed()
+            .thenComparing(GameView::getId);
+
+    private final ReadModelProperties properties;
+    private final Map<Long, GameView> games = new ConcurrentHashMap<>();
+    private final Map<Difficulty, NavigableSet<GameView>> leaders = new EnumMap<>(Difficulty.class);
+    // ids of finished games in the order they were stored, the oldest are dropped first
+    private final Queue<Long> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    public InMemoryGameViewRepository(ReadModelProperties properties) {
+        this.properties = properties;
+        for (Difficulty difficulty : Difficulty.values()) {
+            leaders.put(difficulty, new ConcurrentSkipListSet<>(LEADER_ORDER));
+        }
+    }
+
+    @Override
+    public GameView findById(Long id) {
+        return games.get(id);
+    }
+
+    @Override
+    public List<GameView> findAll() {
+        return new ArrayList<>(games.values());
+    }
+
+    @Override
+    public List<GameView> findLeaders(Difficulty difficulty) {
+        return new ArrayList<>(leaders.get(difficulty));
+    }
+
+    @Override
+    public void save(GameView view) {
+        // views may arrive out of order, e.g. from concurrent writers or startup hydration
+        GameView current = games.merge(view.getId(), view,
+                (old, candidate) -> candidate.getVersion() > old.getVersion() ? candidate : old);
+        if (current != view) {
+            return;
+        }
+        if (view.getStatus() == GameStatus.WON && view.getDifficulty() != null) {
+            NavigableSet<GameView> board = leaders.get(view.getDifficulty());
+            board.add(view);
+            while (board.size() > properties.getLeaderboardSize()) {
+                board.pollLast();
+            }
+        }
+        if (isFinished(view)) {
+            finished.add(view.getId());
+            evictFinished();
+        }
+    }
+
+    private void evictFinished() {
+        // kept for a while rather than dropped at once, so that a late older view of the game is still ignored
+        if (finishedCount.incrementAndGet() > properties.getMaxFinishedGames()) {
+            Long id = finished.poll();
+            if (id != null) {
+                finishedCount.decrementAndGet();
+                // leaders stay on their board, only the lookup by id goes back to the write path
+                games.computeIfPresent(id, (key, view) -> isFinished(view) ? null : view);
+            }
+        }
+    }
+
+    private static boolean isFinished(GameView view) {
+        return view.getStatus() == GameStatus.WON || view.getStatus() == GameStatus.LOST;
+    }
+}
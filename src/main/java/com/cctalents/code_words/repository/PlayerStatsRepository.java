@@ -0,0 +1,9 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.entity.PlayerStats;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlayerStatsRepository extends CrudRepository<PlayerStats, String> {
+}
@@ -0,0 +1,9 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.entity.Tournament;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TournamentRepository extends CrudRepository<Tournament, Long> {
+}
@@ -0,0 +1,13 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.entity.TournamentStanding;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TournamentStandingRepository extends CrudRepository<TournamentStanding, Long> {
+
+    List<TournamentStanding> findAllByTournamentIdOrderByRankAsc(Long tournamentId);
+}
@@ -0,0 +1,144 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.DictionaryProperties;
+import com.cctalents.code_words.dictionary.Dictionary;
+import com.cctalents.code_words.dictionary.DictionaryCache;
+import com.cctalents.code_words.dto.DictionaryStatsResponse;
+import com.cctalents.code_words.exception.UnsupportedLocaleException;
+import com.cctalents.code_words.projection.WordEntry;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.WordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class giving access to the word list of each locale.
+ * <p>
+ * Dictionaries are loaded from the words table the first time a locale is used and kept
+ * in a {@link DictionaryCache} bounded by {@code game.dictionary.max-words}, so only the
+ * locales in use are held in memory. The configured locales and the locales with the most
+ * games are warmed in the background, which also keeps them from being evicted.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DictionaryService {
+
+    private final DictionaryProperties properties;
+    private final WordRepository wordRepository;
+    private final GameRepository gameRepository;
+
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private DictionaryCache cache;
+    private ExecutorService rebuilder;
+
+    @PostConstruct
+    public void init() {
+        cache = new DictionaryCache(properties.getMaxWords(), this::load);
+        rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dictionary-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    /**
+     * Retrieves the dictionary of a locale, loading it on first use.
+     *
+     * @param locale the locale, in any case and with either {@code -} or {@code _} separators
+     * @return the dictionary of the locale
+     * @throws UnsupportedLocaleException if there are no words for the locale
+     */
+    public Dictionary getDictionary(String locale) {
+        return cache.get(Dictionary.normalize(locale));
+    }
+
+    /**
+     * Reloads the cached dictionaries of the given locales after their words changed. Each
+     * dictionary is replaced in one step once its new version is loaded.
+     *
+     * @param locales the normalized locales whose words changed
+     * @return the locales that were cached and have been reloaded
+     */
+    public List<String> reload(Collection<String> locales) {
+        List<String> reloaded = new ArrayList<>();
+        for (String locale : locales) {
+            if (cache.reload(locale)) {
+                reloaded.add(locale);
+            }
+        }
+        return reloaded;
+    }
+
+    /**
+     * Reloads the cached dictionary of a locale in the background, after the weights of its
+     * words changed. Games keep drawing from the previous dictionary until the new one is
+     * swapped in. Requests made while a rebuild is waiting to start are served by that rebuild.
+     *
+     * @param locale the normalized locale whose words changed
+     */
+    public void rebuildLater(String locale) {
+        if (!pendingRebuilds.add(locale)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            // changes committed from now on schedule another rebuild
+            pendingRebuilds.remove(locale);
+            try {
+                cache.reload(locale);
+            } catch (RuntimeException e) {
+                log.warn("Unable to rebuild dictionary {}", locale, e);
+            }
+        });
+    }
+
+    public DictionaryStatsResponse getStats() {
+        DictionaryCache.DictionaryCacheStats stats = cache.stats();
+        long requests = stats.hits() + stats.misses();
+        return new DictionaryStatsResponse(stats.locales(), stats.words(), stats.maxWords(), stats.hits(),
+                stats.misses(), requests == 0 ? 0 : (double) stats.hits() / requests, stats.loads(),
+                stats.evictions(), stats.averageLoadMillis());
+    }
+
+    /**
+     * Loads the configured locales and the most played ones ahead of use.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${game.dictionary.warm-interval-ms:300000}")
+    public void warmUp() {
+        Set<String> locales = new LinkedHashSet<>(properties.getWarmLocales());
+        if (properties.getWarmPopular() > 0) {
+            locales.addAll(gameRepository.findLocalesByPopularity(Limit.of(properties.getWarmPopular())));
+        }
+        for (String locale : locales) {
+            try {
+                cache.warm(Dictionary.normalize(locale));
+            } catch (UnsupportedLocaleException e) {
+                log.warn("Not warming dictionary: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Dictionary load(String locale) {
+        List<WordEntry> entries = wordRepository.findAllByLocale(locale);
+        if (entries.isEmpty()) {
+            throw new UnsupportedLocaleException(locale);
+        }
+        return Dictionary.build(locale, entries);
+    }
+}
@@ -0,0 +1,110 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.HistoryProperties;
+import com.cctalents.code_words.dto.GameHistoryPageResponse;
+import com.cctalents.code_words.dto.GameHistoryResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.util.EnumUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service class listing the games of a player, newest first.
+ * <p>
+ * Pages are addressed by a cursor, the id below which the next page starts, instead of an
+ * offset. Every page is then a range scan of the (player, id) index, which costs the same
+ * for the first and the last page of a long history. The export walks the same pages one
+ * batch at a time, so neither memory nor open transactions grow with the history.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class GameHistoryService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final HistoryProperties properties;
+    private final GameRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Retrieves a page of a player's games.
+     *
+     * @param player the name of the player
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the page size, or {@code null} for the configured one; capped at the configured maximum
+     * @param status only games with this status if not {@code null}
+     * @param difficulty only games of this difficulty if not {@code null}
+     * @return the games of the page and the cursor of the next one
+     */
+    public GameHistoryPageResponse getHistory(String player, Long cursor, Integer limit,
+                                              GameStatus status, Difficulty difficulty) {
+        int size = Math.max(1, Math.min(limit == null ? properties.getPageSize() : limit, properties.getMaxPageSize()));
+        // one more than asked tells whether there is a next page
+        List<Game> games = repository.findHistory(player, cursor == null ? Long.MAX_VALUE : cursor,
+                status, difficulty, Limit.of(size + 1));
+        Long nextCursor = null;
+        if (games.size() > size) {
+            games = games.subList(0, size);
+            nextCursor = games.get(size - 1).getId();
+        }
+        return new GameHistoryPageResponse(games.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    /**
+     * Writes every game of a player as newline-delimited JSON, newest first. Games are read
+     * in batches of {@code game.history.export-batch-size}, each in its own short query.
+     *
+     * @param player the name of the player
+     * @param status only games with this status if not {@code null}
+     * @param difficulty only games of this difficulty if not {@code null}
+     * @param output the stream to write to, flushed after every batch
+     * @return the number of games written
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    public long export(String player, GameStatus status, Difficulty difficulty, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(GameHistoryResponse.class);
+        int batchSize = properties.getExportBatchSize();
+        long cursor = Long.MAX_VALUE;
+        long written = 0;
+        List<Game> games;
+        do {
+            games = repository.findHistory(player, cursor, status, difficulty, Limit.of(batchSize));
+            for (Game game : games) {
+                output.write(writer.writeValueAsBytes(toResponse(game)));
+                output.write(NEWLINE);
+            }
+            output.flush();
+            written += games.size();
+            if (!games.isEmpty()) {
+                cursor = games.get(games.size() - 1).getId();
+            }
+        } while (games.size() == batchSize);
+        return written;
+    }
+
+    private GameHistoryResponse toResponse(Game game) {
+        boolean finished = EnumUtil.equalsAny(game.getStatus(), GameStatus.WON, GameStatus.LOST);
+        return GameHistoryResponse.builder()
+                .gameId(game.getId())
+                .word(finished ? game.getWord() : null)
+                .maskedWord(game.getMaskedWord())
+                .remainingAttempts(game.getRemainingAttempts())
+                .status(game.getStatus() == null ? GameStatus.IN_PROGRESS : game.getStatus())
+                .difficulty(game.getDifficulty())
+                .locale(game.getLocale())
+                .hintsUsed(game.getHintsUsed())
+                .tournamentId(game.getTournamentId())
+                .build();
+    }
+}
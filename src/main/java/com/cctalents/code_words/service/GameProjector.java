@@ -0,0 +1,122 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.ReadModelProperties;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.projection.GameView;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.GameViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service class that keeps the read model in sync with the write path.
+ * <p>
+ * Writers only take an immutable snapshot of the game and queue it, the snapshots
+ * are applied to the {@link GameViewRepository} in order by a single background
+ * thread so that guesses never wait on the read side. A view that cannot be applied is
+ * logged and skipped, the game is served from the write path until its next write.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameProjector {
+
+    private final ReadModelProperties properties;
+    private final GameViewRepository viewRepository;
+    private final GameRepository gameRepository;
+
+    private final Queue<GameView> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean hydrating;
+    private volatile long hydrationStartedAt;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-projector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Queues the current state of a game to be applied to the read model.
+     *
+     * @param game the game that was just written
+     */
+    public void project(Game game) {
+        pending.add(GameView.of(game));
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Computes how far the read model is behind the write path.
+     *
+     * @return the age in nanoseconds of the oldest write not applied yet, or 0 when up to date,
+     *         counting every game as not applied until the startup hydration is done
+     */
+    public long lagNanos() {
+        long now = System.nanoTime();
+        GameView oldest = pending.peek();
+        long lag = oldest == null ? 0 : now - oldest.getWrittenAt();
+        return hydrating ? Math.max(lag, now - hydrationStartedAt) : lag;
+    }
+
+    /**
+     * Loads the views of the games already stored, e.g. restored from a snapshot, in batches
+     * of ascending ids. Views are saved directly instead of being queued, the read model keeps
+     * the newest version when they race with live writes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void hydrate() {
+        hydrationStartedAt = System.nanoTime();
+        hydrating = true;
+        try {
+            long after = 0;
+            List<Game> batch;
+            do {
+                batch = gameRepository.findAllByIdGreaterThanOrderByIdAsc(after,
+                        Limit.of(properties.getHydrateBatchSize()));
+                for (Game game : batch) {
+                    viewRepository.save(GameView.of(game));
+                    after = game.getId();
+                }
+            } while (batch.size() == properties.getHydrateBatchSize());
+        } finally {
+            hydrating = false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void drain() {
+        do {
+            GameView view;
+            while ((view = pending.peek()) != null) {
+                try {
+                    viewRepository.save(view);
+                } catch (RuntimeException e) {
+                    log.warn("Unable to apply the view of game {}, skipping it", view.getId(), e);
+                }
+                // only dequeue once applied so that the lag stays visible until then
+                pending.poll();
+            }
+            draining.set(false);
+            // a writer may have queued after the last peek but before the flag was cleared
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,73 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.ReadModelProperties;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.projection.GameView;
+import com.cctalents.code_words.repository.GameViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class serving game reads from the read model.
+ * <p>
+ * As long as the read model is no further behind the write path than the configured
+ * staleness bound, reads never touch the games table. Past that bound, or for a game
+ * that has not been projected yet, reads fall back to the {@link GameService}.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class GameQueryService {
+
+    private final ReadModelProperties properties;
+    private final GameViewRepository viewRepository;
+    private final GameProjector projector;
+    private final GameService gameService;
+
+    public GameView getGame(Long gameId) {
+        if (isFreshEnough()) {
+            GameView view = viewRepository.findById(gameId);
+            if (view != null) {
+                return view;
+            }
+        }
+        return GameView.of(gameService.findGameById(gameId));
+    }
+
+    /**
+     * Retrieves the best won games of each difficulty, in difficulty order and sorted by
+     * score, the remaining attempts minus the hints used, in descending order within each difficulty.
+     *
+     * @return up to the configured leaderboard size of games for every difficulty
+     */
+    public List<GameView> getLeaderboards() {
+        List<GameView> result = new ArrayList<>();
+        if (isFreshEnough()) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                result.addAll(viewRepository.findLeaders(difficulty));
+            }
+            return result;
+        }
+
+        List<GameView> winners = gameService.getTopPlayers().stream()
+                .map(GameView::of)
+                .sorted(Comparator.comparingInt(GameView::getScore).reversed())
+                .toList();
+        for (Difficulty difficulty : Difficulty.values()) {
+            result.addAll(winners.stream()
+                    .filter(view -> view.getDifficulty() == difficulty)
+                    .limit(properties.getLeaderboardSize())
+                    .toList());
+        }
+        return result;
+    }
+
+    private boolean isFreshEnough() {
+        return projector.lagNanos() <= TimeUnit.MILLISECONDS.toNanos(properties.getMaxStalenessMs());
+    }
+}
@@ -1,14 +1,21 @@
 package com.cctalents.code_words.service;
 
 import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.config.PersistenceProperties;
+import com.cctalents.code_words.dictionary.Dictionary;
 import com.cctalents.code_words.dto.CreateGameRequest;
 import com.cctalents.code_words.dto.GameRequest;
 import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.Tournament;
 import com.cctalents.code_words.enums.Difficulty;
 import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.ConcurrentGuessException;
 import com.cctalents.code_words.exception.GameAlreadyFinishedException;
 import com.cctalents.code_words.exception.MultipleGuessLetterNotAllowedException;
 import com.cctalents.code_words.exception.NoGameFoundException;
+import com.cctalents.code_words.exception.TournamentFinishedException;
+import com.cctalents.code_words.jfr.GameOperationEvent;
+import com.cctalents.code_words.jfr.RequestPhases;
 import com.cctalents.code_words.repository.GameRepository;
 import com.cctalents.code_words.util.EnumUtil;
 import com.cctalents.code_words.util.GameUtil;
@@ -26,7 +33,12 @@ import java.util.stream.Collectors;
  * <p>
  * This class interacts with the GameRepository for persistence, WordService for
  * retrieving words based on difficulty, and GameProperties for configurable
- * settings such as default difficulty and allowed attempts.
+ * settings such as default difficulty and allowed attempts. Every write is handed
+ * to the GameProjector to keep the read model up to date.
+ * </p>
+ * <p>
+ * Creations, guesses and forfeits emit a {@link GameOperationEvent} timing the games
+ * table access apart from the game rules while a JFR recording is running.
  * </p>
  */
 @Service
@@ -36,35 +48,72 @@ public class GameService {
     private final GameProperties gameProperties;
     private final WordService wordService;
     private final GameRepository repository;
+    private final PlayerStatsService playerStatsService;
+    private final GameProjector projector;
+    private final GuessAnalyticsService analyticsService;
+    private final TournamentStandingsService standingsService;
+    private final PersistenceProperties persistenceProperties;
 
     /**
      * Creates a new game based on the provided {@link CreateGameRequest}.
-     * If the difficulty or player fields in the request are not provided,
+     * If the difficulty, player or locale fields in the request are not provided,
      * default values from the game properties will be used. The method initializes
-     * a random word based on the specified difficulty, masks it, and assigns a
+     * a random word of the locale based on the specified difficulty, masks it, and assigns a
      * predefined number of remaining attempts.
      *
-     * @param request the request object containing the player name and game difficulty
+     * @param request the request object containing the player name, game difficulty and locale
      * @return the created game entity after being saved in the repository
      */
     public Game createGame(CreateGameRequest request) {
-        if (!StringUtils.hasLength(request.getDifficulty())) {
-            request.setDifficulty(gameProperties.getDefaultDifficulty());
-        }
-        if (!StringUtils.hasText(request.getPlayer())) {
-            request.setPlayer(gameProperties.getDefaultPlayer());
+        GameOperationEvent event = GameOperationEvent.start("create");
+        try {
+            long t = event.mark();
+            if (!StringUtils.hasLength(request.getDifficulty())) {
+                request.setDifficulty(gameProperties.getDefaultDifficulty());
+            }
+            if (!StringUtils.hasText(request.getPlayer())) {
+                request.setPlayer(gameProperties.getDefaultPlayer());
+            }
+            if (!StringUtils.hasText(request.getLocale())) {
+                request.setLocale(gameProperties.getDefaultLocale());
+            }
+
+            Difficulty difficulty = Difficulty.valueOf(request.getDifficulty());
+            String locale = Dictionary.normalize(request.getLocale());
+            String word = wordService.getRandomWord(locale, difficulty);
+            Game game = newGame(word, difficulty, locale, request.getPlayer()).build();
+            t = event.domain(t);
+            Game saved = repository.save(game);
+            t = event.repository(t);
+            projector.project(saved);
+            event.domain(t);
+            return event.result(saved);
+        } catch (RuntimeException e) {
+            throw event.failure(null, e);
+        } finally {
+            RequestPhases.complete(event);
         }
+    }
 
-        String word = wordService.getRandomWordByDifficulty(Difficulty.valueOf(request.getDifficulty()));
-        String maskedWord = GameUtil.mask(word);
-        int remainingAttempts = gameProperties.getAllowedAttempts();
-        Game game = Game.builder()
-                .word(word)
-                .maskedWord(maskedWord)
-                .remainingAttempts(remainingAttempts)
-                .player(request.getPlayer())
+    /**
+     * Creates a new game for a player joining a tournament. The game is played on the
+     * word shared by every participant of the tournament.
+     *
+     * @param tournament the open tournament being joined
+     * @param player the name of the joining player, or empty for the default player
+     * @return the created game entity after being saved in the repository
+     */
+    public Game createTournamentGame(Tournament tournament, String player) {
+        if (!StringUtils.hasText(player)) {
+            player = gameProperties.getDefaultPlayer();
+        }
+        Game game = newGame(tournament.getWord(), tournament.getDifficulty(), tournament.getLocale(), player)
+                .tournamentId(tournament.getId())
                 .build();
-        return repository.save(game);
+        Game saved = repository.save(game);
+        projector.project(saved);
+        standingsService.onGameUpdated(saved);
+        return saved;
     }
 
     public Game findGameById(Long gameId) {
@@ -75,38 +124,43 @@ public class GameService {
     /**
      * Processes a user's guess for a game, updating the game status and masked word
      * based on the guess. Throws an exception if an invalid guess is provided.
+     * <p>
+     * The outcome is written with a single conditional update guarded by the game version.
+     * If another request changed the game in the meantime, the guess is applied again on
+     * the fresh state, up to the configured number of attempts.
+     * </p>
      *
      * @param gameId the unique identifier of the game
      * @param gameRequest the request containing the guess made by the user
      * @return the updated game state after processing the guess
      */
     public Game guess(Long gameId, GameRequest gameRequest) {
-        String guess = gameRequest.getGuess();
-        Game game = findGameById(gameId);
-        validateGameStatus(game);
-
-        // check if user was able to guess the word
-        if (game.getWord().equals(guess)) {
-            // masked word should already show the answer
-            game.setMaskedWord(guess);
-            game.setStatus(GameStatus.WON);
-        } else if (guess.length() == 2) {
-            throw new MultipleGuessLetterNotAllowedException();
-        } else if (game.getWord().contains(guess)) {
-            game.setMaskedWord(unmaskCorrect(game.getMaskedWord(), game.getWord(), guess));
-
-            // check now if the user was able to fully unmasked the word
-            if (game.getWord().equals(game.getMaskedWord())) {
-                game.setStatus(GameStatus.WON);
-            }
-        } else {
-            game.setRemainingAttempts(game.getRemainingAttempts() - 1);
-
-            if (game.getRemainingAttempts() == 0) {
-                game.setStatus(GameStatus.LOST);
+        GameOperationEvent event = GameOperationEvent.start("guess");
+        try {
+            String guess = gameRequest.getGuess();
+            for (int attempt = 1; ; attempt++) {
+                long t = event.mark();
+                Game game = findGameById(gameId);
+                t = event.repository(t);
+                validateTournament(game);
+                boolean firstGuess = game.getStatus() == null;
+                int remainingAttempts = game.getRemainingAttempts();
+                applyGuess(game, guess);
+                t = event.domain(t);
+                boolean updated = tryUpdate(game, attempt);
+                t = event.repository(t);
+                if (updated) {
+                    Game saved = record(game);
+                    analyticsService.record(saved, guess, saved.getRemainingAttempts() == remainingAttempts, firstGuess);
+                    event.domain(t);
+                    return event.result(saved);
+                }
             }
+        } catch (RuntimeException e) {
+            throw event.failure(gameId, e);
+        } finally {
+            RequestPhases.complete(event);
         }
-        return repository.save(game);
     }
 
     /**
@@ -117,10 +171,55 @@ public class GameService {
      * @return the updated game entity with its status set to LOST
      */
     public Game forfeit(Long gameId) {
-        Game game = findGameById(gameId);
-        validateGameStatus(game);
-        game.setStatus(GameStatus.LOST);
-        return repository.save(game);
+        GameOperationEvent event = GameOperationEvent.start("forfeit");
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long t = event.mark();
+                Game game = findGameById(gameId);
+                t = event.repository(t);
+                validateTournament(game);
+                validateGameStatus(game);
+                game.setStatus(GameStatus.LOST);
+                t = event.domain(t);
+                boolean updated = tryUpdate(game, attempt);
+                t = event.repository(t);
+                if (updated) {
+                    Game saved = record(game);
+                    event.domain(t);
+                    return event.result(saved);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw event.failure(gameId, e);
+        } finally {
+            RequestPhases.complete(event);
+        }
+    }
+
+    /**
+     * Counts a hint against a game in progress, which lowers its leaderboard score. Like a
+     * guess, the hint is written with a conditional update guarded by the game version and
+     * counted again on the fresh state if another request changed the game in the meantime.
+     *
+     * @param gameId the unique identifier of the game a hint is requested for
+     * @return the game in the state the hint was counted against
+     */
+    public Game recordHint(Long gameId) {
+        for (int attempt = 1; ; attempt++) {
+            Game game = findGameById(gameId);
+            if (EnumUtil.equalsAny(game.getStatus(), GameStatus.WON, GameStatus.LOST)) {
+                throw new GameAlreadyFinishedException();
+            }
+            if (repository.incrementHintsUsed(gameId, game.getVersion()) == 1) {
+                game.setHintsUsed(game.getHintsUsed() + 1);
+                game.setVersion(game.getVersion() + 1);
+                projector.project(game);
+                return game;
+            }
+            if (attempt >= persistenceProperties.getMaxUpdateAttempts()) {
+                throw new ConcurrentGuessException(gameId);
+            }
+        }
     }
 
     /**
@@ -138,6 +237,67 @@ public class GameService {
                 .collect(Collectors.toList());
     }
 
+    private Game.GameBuilder newGame(String word, Difficulty difficulty, String locale, String player) {
+        return Game.builder()
+                .word(word)
+                .maskedWord(GameUtil.mask(word))
+                .remainingAttempts(gameProperties.getAllowedAttempts(difficulty))
+                .player(player)
+                .difficulty(difficulty)
+                .locale(locale);
+    }
+
+    private void applyGuess(Game game, String guess) {
+        validateGameStatus(game);
+
+        // check if user was able to guess the word
+        if (game.getWord().equals(guess)) {
+            // masked word should already show the answer
+            game.setMaskedWord(guess);
+            game.setStatus(GameStatus.WON);
+        } else if (guess.length() == 2) {
+            throw new MultipleGuessLetterNotAllowedException();
+        } else if (game.getWord().contains(guess)) {
+            game.setMaskedWord(unmaskCorrect(game.getMaskedWord(), game.getWord(), guess));
+
+            // check now if the user was able to fully unmasked the word
+            if (game.getWord().equals(game.getMaskedWord())) {
+                game.setStatus(GameStatus.WON);
+            }
+        } else {
+            game.setRemainingAttempts(game.getRemainingAttempts() - 1);
+            if (guess.length() == 1 && game.getMissedLetters().indexOf(guess.charAt(0)) < 0) {
+                game.setMissedLetters(game.getMissedLetters() + guess);
+            }
+
+            if (game.getRemainingAttempts() == 0) {
+                game.setStatus(GameStatus.LOST);
+            }
+        }
+    }
+
+    private boolean tryUpdate(Game game, int attempt) {
+        int updated = repository.updateState(game.getId(), game.getVersion(), game.getMaskedWord(),
+                game.getRemainingAttempts(), game.getStatus(), game.getMissedLetters());
+        if (updated == 1) {
+            game.setVersion(game.getVersion() + 1);
+            return true;
+        }
+        if (attempt >= persistenceProperties.getMaxUpdateAttempts()) {
+            throw new ConcurrentGuessException(game.getId());
+        }
+        return false;
+    }
+
+    private Game record(Game game) {
+        projector.project(game);
+        if (game.getStatus() != GameStatus.IN_PROGRESS) {
+            playerStatsService.recordFinishedGame(game);
+        }
+        standingsService.onGameUpdated(game);
+        return game;
+    }
+
     private void validateGameStatus(Game game) {
         // tagged the game as already in progress
         if (game.getStatus() == null) {
@@ -147,18 +307,17 @@ public class GameService {
         }
     }
 
-    private String unmaskCorrect(String masked, String word, String guess) {
-        StringBuilder result = new StringBuilder();
-        // since we're only allowed to guess by a single letter
-        char guessChar = guess.charAt(0);
-        for (int index = 0; index < word.length(); index++) {
-            if (word.charAt(index) == guessChar) {
-                result.append(guessChar);
-            } else {
-                result.append(masked.charAt(index));
-            }
+    private void validateTournament(Game game) {
+        // games stay readable once their tournament is finished, but the standings are final
+        if (game.getTournamentId() != null && standingsService.isFinished(game.getTournamentId())) {
+            throw new TournamentFinishedException();
         }
+    }
 
-        return result.toString();
+    private String unmaskCorrect(String masked, String word, String guess) {
+        char[] result = masked.toCharArray();
+        // since we're only allowed to guess by a single letter
+        GameUtil.reveal(result, word, guess.charAt(0));
+        return new String(result);
     }
 }
@@ -0,0 +1,260 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.SnapshotProperties;
+import com.cctalents.code_words.snapshot.SnapshotColumn;
+import com.cctalents.code_words.snapshot.SnapshotReader;
+import com.cctalents.code_words.snapshot.SnapshotWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Service class persisting the in-memory database tables holding game state across restarts.
+ * <p>
+ * Snapshots are taken periodically and on shutdown by streaming the configured tables
+ * into a compact binary file inside one read-only repeatable read transaction. H2 keeps
+ * row versions in a copy-on-write store, so the snapshot reads a consistent view while
+ * guesses keep writing without waiting on it. Files are written under a temporary name
+ * and moved into place, and only the newest {@code game.snapshot.retention} are kept.
+ * </p>
+ * <p>
+ * On startup, before the web server accepts requests, the newest readable snapshot is
+ * memory-mapped and batch-inserted in a single transaction, falling back to older snapshots
+ * if it is damaged. Restored tables are emptied first, so the words seeded on startup are
+ * replaced by the snapshotted ones along with their weights and the imported words.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSnapshotService implements SmartInitializingSingleton {
+
+    private static final String PREFIX = "games-";
+    private static final String SUFFIX = ".snap";
+    private static final int BATCH_SIZE = 10_000;
+
+    private final SnapshotProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isRestoreOnStartup()) {
+            return;
+        }
+        Integer games = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM games", Integer.class);
+        if (games != null && games > 0) {
+            return;
+        }
+        List<Path> newestFirst = new ArrayList<>(listSnapshots());
+        Collections.reverse(newestFirst);
+        for (Path file : newestFirst) {
+            try {
+                long start = System.nanoTime();
+                long rows = restore(file);
+                log.info("Restored {} rows from {} in {} ms", rows, file, (System.nanoTime() - start) / 1_000_000);
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to restore snapshot {}, trying an older one", file, e);
+            }
+        }
+    }
+
+    /**
+     * Writes the configured tables to a new snapshot file and drops the snapshots beyond
+     * the retention.
+     */
+    @Scheduled(fixedDelayString = "${game.snapshot.interval-ms:60000}",
+            initialDelayString = "${game.snapshot.interval-ms:60000}")
+    @PreDestroy
+    public synchronized void snapshot() throws IOException {
+        Path directory = Path.of(properties.getDirectory()).toAbsolutePath();
+        Files.createDirectories(directory);
+        long takenAt = System.currentTimeMillis();
+        Path file = directory.resolve(String.format("%s%013d%s", PREFIX, takenAt, SUFFIX));
+        Path temp = Files.createTempFile(directory, PREFIX, ".tmp");
+
+        try {
+            List<String> tables = existingTables(properties.getTables());
+            try (SnapshotWriter writer = new SnapshotWriter(temp, takenAt, tables.size())) {
+                readOnlySnapshot().executeWithoutResult(status -> {
+                    for (String table : tables) {
+                        writeTable(writer, table);
+                    }
+                });
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<Path> snapshots = listSnapshots();
+        for (Path old : snapshots.subList(0, Math.max(0, snapshots.size() - properties.getRetention()))) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    /**
+     * Replaces the content of the tables in a snapshot with the snapshotted rows. Columns
+     * that no longer exist are skipped and new columns are left to their defaults.
+     *
+     * @param file the snapshot to restore
+     * @return the number of rows inserted
+     */
+    public long restore(Path file) throws IOException {
+        long rows;
+        try (SnapshotReader reader = new SnapshotReader(file)) {
+            rows = new TransactionTemplate(transactionManager).execute(status -> insertAll(reader));
+        }
+        for (String table : properties.getTables()) {
+            restartIdentity(table);
+        }
+        return rows;
+    }
+
+    /**
+     * Lists the snapshot files, oldest first.
+     */
+    public List<Path> listSnapshots() {
+        Path directory = Path.of(properties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TransactionTemplate readOnlySnapshot() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return template;
+    }
+
+    private void writeTable(SnapshotWriter writer, String table) {
+        jdbcTemplate.query("SELECT * FROM " + table, resultSet -> {
+            try {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                List<SnapshotColumn> columns = new ArrayList<>(metaData.getColumnCount());
+                for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                    columns.add(new SnapshotColumn(metaData.getColumnName(column).toLowerCase(Locale.ROOT),
+                            SnapshotColumn.Kind.of(metaData.getColumnType(column))));
+                }
+                writer.beginTable(table, columns);
+                while (resultSet.next()) {
+                    writer.writeRow(resultSet);
+                }
+                writer.endTable();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    private long insertAll(SnapshotReader reader) {
+        Set<String> restorable = new HashSet<>(existingTables(properties.getTables()));
+        long rows = 0;
+        while (reader.nextTable()) {
+            List<SnapshotColumn> columns = reader.getColumns();
+            Object[] values = new Object[columns.size()];
+            if (!restorable.contains(reader.getTable())) {
+                while (reader.nextRow(values)) {
+                    // skip tables that are no longer snapshotted
+                }
+                continue;
+            }
+            rows += insertTable(reader, values);
+        }
+        return rows;
+    }
+
+    private long insertTable(SnapshotReader reader, Object[] values) {
+        String table = reader.getTable();
+        Set<String> current = currentColumns(table);
+        List<Integer> kept = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int index = 0; index < reader.getColumns().size(); index++) {
+            String name = reader.getColumns().get(index).name();
+            if (current.contains(name)) {
+                kept.add(index);
+                names.add(name);
+            }
+        }
+        jdbcTemplate.update("DELETE FROM " + table);
+        String insert = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            long inserted = 0;
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                int batched = 0;
+                while (reader.nextRow(values)) {
+                    for (int parameter = 0; parameter < kept.size(); parameter++) {
+                        statement.setObject(parameter + 1, values[kept.get(parameter)]);
+                    }
+                    statement.addBatch();
+                    if (++batched == BATCH_SIZE) {
+                        statement.executeBatch();
+                        batched = 0;
+                    }
+                    inserted++;
+                }
+                if (batched > 0) {
+                    statement.executeBatch();
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private void restartIdentity(String table) {
+        List<String> identities = jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ? AND IS_IDENTITY = 'YES'",
+                String.class, table.toUpperCase(Locale.ROOT));
+        for (String column : identities) {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    private List<String> existingTables(List<String> tables) {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class));
+        return tables.stream()
+                .filter(table -> existing.contains(table.toUpperCase(Locale.ROOT)))
+                .toList();
+    }
+
+    private Set<String> currentColumns(String table) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT LOWER(COLUMN_NAME) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ?", String.class, table.toUpperCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,285 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.AnalyticsProperties;
+import com.cctalents.code_words.dto.LetterStatsResponse;
+import com.cctalents.code_words.dto.WordStatsResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service class collecting letter and word statistics of every guess in process.
+ * <p>
+ * Every counter is a {@link LongAdder}, which stripes increments over per-thread cells,
+ * so concurrent guesses never contend on a shared value or a lock and recording costs a
+ * few increments on the guess path. Counters are summed only when they are queried or
+ * periodically snapshotted to a compressed file, from which they are restored on startup.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuessAnalyticsService {
+
+    private static final String BASIC_ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    // the letters of every supported locale, an accented letter is a guess of its own
+    private static final String ALPHABET = BASIC_ALPHABET + "àâäæçéèêëîïôœùûüÿáíñóúß";
+    private static final int LETTERS = ALPHABET.length();
+    // a single slot for anything outside the alphabet
+    private static final int SLOTS = LETTERS + 1;
+    private static final int[] LETTER_INDEX = letterIndex();
+    private static final int HISTOGRAM_SIZE = 16;
+    // snapshots of version 1 only had the basic alphabet and did not store it
+    private static final int MAGIC_V1 = 0x47414E31;
+    private static final int MAGIC = 0x47414E32;
+
+    private final AnalyticsProperties properties;
+
+    private final LongAdder[] guesses = adders(Difficulty.values().length * SLOTS);
+    private final LongAdder[] hits = adders(Difficulty.values().length * SLOTS);
+    private final LongAdder[] firstGuesses = adders(Difficulty.values().length * SLOTS);
+    private final Map<String, WordCounters> words = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+    private long snapshotted;
+
+    /**
+     * Records the outcome of a guess that was applied to a game.
+     *
+     * @param game the game after the guess was applied
+     * @param guess the letter or word that was guessed
+     * @param hit whether the guess revealed letters or the whole word
+     * @param firstGuess whether it was the first guess of the game
+     */
+    public void record(Game game, String guess, boolean hit, boolean firstGuess) {
+        if (guess.length() == 1 && game.getDifficulty() != null) {
+            int slot = slot(game.getDifficulty(), guess.charAt(0));
+            guesses[slot].increment();
+            if (hit) {
+                hits[slot].increment();
+            }
+            if (firstGuess) {
+                firstGuesses[slot].increment();
+            }
+        }
+
+        WordCounters counters = words.get(game.getWord());
+        if (counters == null) {
+            counters = words.computeIfAbsent(game.getWord(), word -> new WordCounters());
+        }
+        counters.guesses.increment();
+        if (!hit) {
+            counters.misses.increment();
+        }
+        if (game.getStatus() == GameStatus.WON || game.getStatus() == GameStatus.LOST) {
+            counters.histogram[Math.min(game.getRemainingAttempts(), HISTOGRAM_SIZE - 1)].increment();
+        }
+        recorded.increment();
+    }
+
+    /**
+     * Retrieves guess counts and hit rates of every letter for a difficulty.
+     *
+     * @param difficulty the difficulty of the games the guesses were made in
+     * @return one entry per letter from a to z, then per accented letter of the supported
+     *         locales, followed by one for any other character
+     */
+    public List<LetterStatsResponse> getLetterStats(Difficulty difficulty) {
+        List<LetterStatsResponse> result = new ArrayList<>(SLOTS);
+        for (int letter = 0; letter < SLOTS; letter++) {
+            int slot = difficulty.ordinal() * SLOTS + letter;
+            long guessCount = guesses[slot].sum();
+            long hitCount = hits[slot].sum();
+            result.add(new LetterStatsResponse(
+                    letter < LETTERS ? String.valueOf(ALPHABET.charAt(letter)) : "other",
+                    guessCount,
+                    hitCount,
+                    guessCount == 0 ? 0 : (double) hitCount / guessCount,
+                    firstGuesses[slot].sum()));
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the words that caused the most missed guesses.
+     *
+     * @param limit the maximum number of words to return
+     * @return words sorted by misses in descending order
+     */
+    public List<WordStatsResponse> getMostMissedWords(int limit) {
+        return words.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingLong(WordStatsResponse::getMisses).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${game.analytics.snapshot-interval-ms:60000}",
+            initialDelayString = "${game.analytics.snapshot-interval-ms:60000}")
+    @PreDestroy
+    public synchronized void snapshot() throws IOException {
+        long total = recorded.sum();
+        if (total == snapshotted) {
+            return;
+        }
+
+        Path file = Path.of(properties.getSnapshotFile());
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(MAGIC);
+            out.writeUTF(ALPHABET);
+            out.writeInt(guesses.length);
+            for (int slot = 0; slot < guesses.length; slot++) {
+                out.writeLong(guesses[slot].sum());
+                out.writeLong(hits[slot].sum());
+                out.writeLong(firstGuesses[slot].sum());
+            }
+
+            List<Map.Entry<String, WordCounters>> entries = new ArrayList<>(words.entrySet());
+            out.writeInt(entries.size());
+            for (Map.Entry<String, WordCounters> entry : entries) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().write(out);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        snapshotted = total;
+    }
+
+    @PostConstruct
+    public synchronized void restore() {
+        Path file = Path.of(properties.getSnapshotFile());
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        // the whole file is decoded before any counter is touched, so a damaged one restores nothing
+        long[] letterCounts = new long[guesses.length * 3];
+        Map<String, long[]> wordCounts = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_V1) {
+                throw new IOException("Unsupported analytics snapshot " + file);
+            }
+            // letters are mapped by the alphabet they were written with, so the alphabet can grow
+            String alphabet = magic == MAGIC ? in.readUTF() : BASIC_ALPHABET;
+            int savedSlots = alphabet.length() + 1;
+            if (in.readInt() != Difficulty.values().length * savedSlots) {
+                throw new IOException("Unsupported analytics snapshot " + file);
+            }
+            for (Difficulty difficulty : Difficulty.values()) {
+                for (int letter = 0; letter < savedSlots; letter++) {
+                    int slot = letter < alphabet.length()
+                            ? slot(difficulty, alphabet.charAt(letter))
+                            : difficulty.ordinal() * SLOTS + LETTERS;
+                    for (int counter = 0; counter < 3; counter++) {
+                        letterCounts[slot * 3 + counter] += in.readLong();
+                    }
+                }
+            }
+
+            int wordCount = in.readInt();
+            for (int i = 0; i < wordCount; i++) {
+                wordCounts.put(in.readUTF(), WordCounters.read(in));
+            }
+        } catch (IOException e) {
+            // analytics are best effort, a damaged snapshot must not prevent the game from starting
+            log.warn("Unable to restore guess analytics from {}", file, e);
+            return;
+        }
+
+        for (int slot = 0; slot < guesses.length; slot++) {
+            guesses[slot].add(letterCounts[slot * 3]);
+            hits[slot].add(letterCounts[slot * 3 + 1]);
+            firstGuesses[slot].add(letterCounts[slot * 3 + 2]);
+        }
+        wordCounts.forEach((word, counts) -> words.computeIfAbsent(word, key -> new WordCounters()).add(counts));
+    }
+
+    private static int slot(Difficulty difficulty, char guess) {
+        char lower = Character.toLowerCase(guess);
+        int letter = lower < LETTER_INDEX.length ? LETTER_INDEX[lower] : LETTERS;
+        return difficulty.ordinal() * SLOTS + letter;
+    }
+
+    private static int[] letterIndex() {
+        int size = ALPHABET.chars().max().orElseThrow() + 1;
+        int[] index = new int[size];
+        Arrays.fill(index, LETTERS);
+        for (int letter = 0; letter < LETTERS; letter++) {
+            index[ALPHABET.charAt(letter)] = letter;
+        }
+        return index;
+    }
+
+    private static LongAdder[] adders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static class WordCounters {
+
+        private final LongAdder guesses = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder[] histogram = adders(HISTOGRAM_SIZE);
+
+        private WordStatsResponse toResponse(String word) {
+            long[] counts = new long[HISTOGRAM_SIZE];
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                counts[i] = histogram[i].sum();
+            }
+            return new WordStatsResponse(word, guesses.sum(), misses.sum(), counts);
+        }
+
+        private void write(DataOutput out) throws IOException {
+            out.writeLong(guesses.sum());
+            out.writeLong(misses.sum());
+            for (LongAdder bucket : histogram) {
+                out.writeLong(bucket.sum());
+            }
+        }
+
+        private static long[] read(DataInput in) throws IOException {
+            long[] counts = new long[2 + HISTOGRAM_SIZE];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = in.readLong();
+            }
+            return counts;
+        }
+
+        private void add(long[] counts) {
+            guesses.add(counts[0]);
+            misses.add(counts[1]);
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                histogram[i].add(counts[2 + i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.dto.HintResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.solver.WordIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class suggesting the most informative next letter of a game.
+ * <p>
+ * Suggestions come from the {@link WordIndex} of the dictionary of the game's locale, so
+ * a hint costs a handful of bitset operations instead of filtering the word list.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class HintService {
+
+    private final DictionaryService dictionaryService;
+    private final GameService gameService;
+
+    /**
+     * Suggests the next letter to guess for a game and counts the hint against it.
+     *
+     * @param gameId the unique identifier of the game
+     * @return the suggested letter, how many words are still possible and the hints used so far
+     */
+    public HintResponse hint(Long gameId) {
+        // the suggestion is made for the exact state the hint was counted against
+        Game game = gameService.recordHint(gameId);
+        WordIndex index = dictionaryService.getDictionary(game.getLocale()).getIndex();
+        WordIndex.Hint hint = index.suggest(game.getMaskedWord(), game.getMissedLetters());
+        return new HintResponse(game.getId(),
+                hint.letter() == null ? null : String.valueOf(hint.letter()),
+                hint.candidates(),
+                game.getHintsUsed());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.IdempotencyProperties;
+import com.cctalents.code_words.exception.IdempotencyKeyMismatchException;
+import com.cctalents.code_words.exception.InvalidIdempotencyKeyException;
+import com.cctalents.code_words.idempotency.IdempotencyCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Service class making requests that carry an {@code Idempotency-Key} header safe to retry.
+ * <p>
+ * The response of the first request with a key is kept in an {@link IdempotencyCache} for
+ * {@code game.idempotency.ttl-ms}, bounded by {@code game.idempotency.max-entries}, and
+ * returned to every retry instead of running the request again. Retries arriving while the
+ * first request is still running wait for its response.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+
+    private IdempotencyCache<Object> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new IdempotencyCache<>(properties.getMaxEntries(),
+                TimeUnit.MILLISECONDS.toNanos(properties.getTtlMs()), System::nanoTime);
+    }
+
+    /**
+     * Runs a request, or returns the response of the earlier request with the same key.
+     *
+     * @param key the idempotency key sent by the client, or {@code null} to always run the request
+     * @param fingerprint the request line and body, which must be the same for every request with the key
+     * @param request the request
+     * @return the response of the first request with the key
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IdempotencyKeyMismatchException if the key was used for a different request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String fingerprint, Supplier<T> request) {
+        if (key == null) {
+            return request.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+        }
+        // the fingerprint names the request, so a key always maps to the same response type
+        return (T) cache.execute(key, fingerprint, request::get);
+    }
+}
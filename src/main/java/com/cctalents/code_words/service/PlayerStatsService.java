@@ -0,0 +1,182 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.StatsProperties;
+import com.cctalents.code_words.dto.PlayerStatsResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.PlayerStats;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.NoPlayerFoundException;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.PlayerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Service class for maintaining per-player aggregates.
+ * <p>
+ * Aggregates are updated once per finished game instead of being computed from the
+ * games table, and the most recently used players are kept in an in-memory cache
+ * so that both updates and lookups usually cost a single write or no query at all.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsService {
+
+    private final StatsProperties statsProperties;
+    private final PlayerStatsRepository repository;
+    private final GameRepository gameRepository;
+
+    // access ordered and guarded by itself; each holder serializes the updates of its player
+    private final LinkedHashMap<String, Holder> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Folds a finished game into its player's aggregates and persists them.
+     * Updates for the same player are serialized so that no result is lost.
+     *
+     * @param game the game that just ended with a status of WON or LOST
+     */
+    public void recordFinishedGame(Game game) {
+        String player = game.getPlayer();
+        while (true) {
+            Holder holder = holder(player);
+            holder.lock.lock();
+            try {
+                if (holder.evicted) {
+                    continue;
+                }
+                if (holder.stats == null) {
+                    holder.stats = repository.findById(player).orElseGet(() -> new PlayerStats(player));
+                }
+                holder.stats.record(game);
+                holder.stats = repository.save(holder.stats);
+                return;
+            } finally {
+                holder.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the aggregates of the given player.
+     *
+     * @param player the name of the player
+     * @return the player's record, including averages of remaining attempts per difficulty
+     */
+    public PlayerStatsResponse getStats(String player) {
+        while (true) {
+            Holder holder = holder(player);
+            holder.lock.lock();
+            try {
+                if (holder.evicted) {
+                    continue;
+                }
+                if (holder.stats == null) {
+                    holder.stats = repository.findById(player).orElse(null);
+                }
+                if (holder.stats != null) {
+                    return toResponse(holder.stats);
+                }
+                // players without games are not cached
+                holder.evicted = true;
+            } finally {
+                holder.lock.unlock();
+            }
+            synchronized (cache) {
+                cache.remove(player, holder);
+            }
+            throw new NoPlayerFoundException(player);
+        }
+    }
+
+    /**
+     * Recomputes every player's aggregates from the finished games, replaying them in
+     * creation order. Games are not stamped with the time they finished, so a player's
+     * streaks can differ from the live ones when their games finished out of creation order.
+     * Games finished while the rebuild runs may have to be rebuilt again.
+     *
+     * @return the number of players whose aggregates were rebuilt
+     */
+    @Transactional
+    public int rebuild() {
+        Map<String, PlayerStats> rebuilt = new HashMap<>();
+        try (Stream<Game> games = gameRepository.streamAllByStatusInOrderByIdAsc(
+                List.of(GameStatus.WON, GameStatus.LOST))) {
+            games.forEach(game -> rebuilt
+                    .computeIfAbsent(game.getPlayer(), PlayerStats::new)
+                    .record(game));
+        }
+
+        repository.deleteAll();
+        repository.saveAll(rebuilt.values());
+        synchronized (cache) {
+            for (Holder holder : cache.values()) {
+                holder.lock.lock();
+                holder.evicted = true;
+                holder.lock.unlock();
+            }
+            cache.clear();
+        }
+        return rebuilt.size();
+    }
+
+    /**
+     * Returns the holder of a player, marking it as most recently used, and evicts the least
+     * recently used players beyond the cache size. Holders being updated are skipped, and an
+     * evicted holder is never used again, so a player is only ever loaded into one holder at a time.
+     */
+    private Holder holder(String player) {
+        synchronized (cache) {
+            Holder holder = cache.computeIfAbsent(player, key -> new Holder());
+            Iterator<Holder> holders = cache.values().iterator();
+            int size = cache.size();
+            while (size > statsProperties.getCacheSize() && holders.hasNext()) {
+                Holder eldest = holders.next();
+                // entries are persisted already, so dropping the least recently used ones is safe
+                if (eldest != holder && eldest.lock.tryLock()) {
+                    eldest.evicted = true;
+                    eldest.lock.unlock();
+                    holders.remove();
+                    size--;
+                }
+            }
+            return holder;
+        }
+    }
+
+    private PlayerStatsResponse toResponse(PlayerStats stats) {
+        Map<Difficulty, Double> averages = new EnumMap<>(Difficulty.class);
+        for (Difficulty difficulty : Difficulty.values()) {
+            averages.put(difficulty, stats.statsFor(difficulty).averageRemainingAttempts());
+        }
+
+        return PlayerStatsResponse.builder()
+                .player(stats.getPlayer())
+                .gamesPlayed(stats.getGamesPlayed())
+                .gamesWon(stats.getGamesWon())
+                .gamesLost(stats.getGamesLost())
+                .currentStreak(stats.getCurrentStreak())
+                .bestStreak(stats.getBestStreak())
+                .averageRemainingAttempts(averages)
+                .build();
+    }
+
+    private static final class Holder {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // guarded by the lock
+        private PlayerStats stats;
+        private boolean evicted;
+    }
+}
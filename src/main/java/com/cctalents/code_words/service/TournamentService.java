@@ -0,0 +1,89 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.dictionary.Dictionary;
+import com.cctalents.code_words.dto.CreateTournamentRequest;
+import com.cctalents.code_words.dto.StandingResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.Tournament;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.TournamentStatus;
+import com.cctalents.code_words.exception.NoTournamentFoundException;
+import com.cctalents.code_words.exception.TournamentFinishedException;
+import com.cctalents.code_words.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Service class for managing tournaments, in which a cohort of players race on the
+ * same word and difficulty. Every participant plays a regular game through the
+ * GameService; the TournamentStandingsService ranks them against each other.
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentService {
+
+    private final GameProperties gameProperties;
+    private final WordService wordService;
+    private final GameService gameService;
+    private final TournamentRepository repository;
+    private final TournamentStandingsService standingsService;
+
+    /**
+     * Opens a new tournament on a random word of the requested difficulty and locale.
+     *
+     * @param request the request containing the difficulty and locale, or empty for the defaults
+     * @return the created tournament
+     */
+    public Tournament createTournament(CreateTournamentRequest request) {
+        String difficultyName = StringUtils.hasLength(request.getDifficulty())
+                ? request.getDifficulty() : gameProperties.getDefaultDifficulty();
+        Difficulty difficulty = Difficulty.valueOf(difficultyName);
+        String locale = Dictionary.normalize(StringUtils.hasText(request.getLocale())
+                ? request.getLocale() : gameProperties.getDefaultLocale());
+        Tournament tournament = Tournament.builder()
+                .word(wordService.getRandomWord(locale, difficulty))
+                .difficulty(difficulty)
+                .locale(locale)
+                .status(TournamentStatus.OPEN)
+                .build();
+        return repository.save(tournament);
+    }
+
+    public Tournament findTournamentById(Long tournamentId) {
+        return repository.findById(tournamentId)
+                .orElseThrow(() -> new NoTournamentFoundException(tournamentId));
+    }
+
+    /**
+     * Enters a player into an open tournament by creating their game on the shared word.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @param player the name of the joining player
+     * @return the player's tournament game
+     */
+    public Game join(Long tournamentId, String player) {
+        return gameService.createTournamentGame(findOpenTournament(tournamentId), player);
+    }
+
+    /**
+     * Closes an open tournament and records its final standings.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return the final standings
+     */
+    public List<StandingResponse> close(Long tournamentId) {
+        return standingsService.finish(findOpenTournament(tournamentId));
+    }
+
+    private Tournament findOpenTournament(Long tournamentId) {
+        Tournament tournament = findTournamentById(tournamentId);
+        if (tournament.getStatus() == TournamentStatus.FINISHED) {
+            throw new TournamentFinishedException();
+        }
+        return tournament;
+    }
+}
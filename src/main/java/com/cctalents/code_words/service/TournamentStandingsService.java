@@ -0,0 +1,393 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.config.TournamentProperties;
+import com.cctalents.code_words.dto.StandingResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.Tournament;
+import com.cctalents.code_words.entity.TournamentStanding;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.enums.TournamentStatus;
+import com.cctalents.code_words.exception.NoTournamentFoundException;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.TournamentRepository;
+import com.cctalents.code_words.repository.TournamentStandingRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service class tracking the live standings of tournaments and pushing them to subscribers.
+ * <p>
+ * Standings are updated in memory whenever a tournament game changes. Publishing runs on
+ * a small pool off the guess path: bursts of updates to the same tournament are coalesced
+ * into one publication, the standings are encoded to JSON once per publication, and the
+ * very same bytes are written to every subscriber instead of serializing per player.
+ * </p>
+ * <p>
+ * Publications are numbered under the tournament's lock but sent outside of it. Every
+ * subscriber holds at most the newest publication it has not been sent yet and is written
+ * to by one task at a time, so it never goes back to older standings, and a subscriber
+ * still stuck in a send for longer than {@code game.tournament.send-timeout-ms} is dropped
+ * instead of holding up the others.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentStandingsService {
+
+    private static final String STANDINGS_EVENT = "standings";
+    private static final Comparator<StandingResponse> RANKING = Comparator
+            .comparing(StandingResponse::getSolvedOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(StandingResponse::getAttemptsUsed)
+            .thenComparing(StandingResponse::getGameId);
+
+    private final TournamentProperties properties;
+    private final GameProperties gameProperties;
+    private final TournamentRepository tournamentRepository;
+    private final TournamentStandingRepository standingRepository;
+    private final GameRepository gameRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, LiveStandings> live = new ConcurrentHashMap<>();
+    private ExecutorService publisher;
+
+    @PostConstruct
+    public void start() {
+        publisher = Executors.newFixedThreadPool(properties.getPublisherThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "tournament-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdown();
+    }
+
+    /**
+     * Folds the latest state of a game into its tournament's standings, if it belongs to one.
+     *
+     * @param game the game that was just created or updated
+     */
+    public void onGameUpdated(Game game) {
+        if (game.getTournamentId() == null) {
+            return;
+        }
+        LiveStandings standings = live(game.getTournamentId());
+        if (standings.update(game, attemptsUsed(game))) {
+            schedulePublish(standings);
+        }
+    }
+
+    /**
+     * Tells whether a tournament no longer accepts changes to the games played in it.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return true once the tournament has been finished
+     */
+    public boolean isFinished(Long tournamentId) {
+        return live(tournamentId).isClosed();
+    }
+
+    /**
+     * Retrieves the standings of a tournament, live while it is open and final once finished.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return the ranked standings, solved games first in the order they were solved
+     */
+    public List<StandingResponse> getStandings(Long tournamentId) {
+        Tournament tournament = findTournament(tournamentId);
+        if (tournament.getStatus() == TournamentStatus.FINISHED) {
+            return standingRepository.findAllByTournamentIdOrderByRankAsc(tournamentId).stream()
+                    .map(standing -> new StandingResponse(standing.getRank(), standing.getPlayer(),
+                            standing.getGameId(), standing.getStatus(), standing.getAttemptsUsed(),
+                            standing.getSolvedOrder()))
+                    .toList();
+        }
+        return live(tournamentId).ranked();
+    }
+
+    /**
+     * Subscribes to the live standings of a tournament. The current standings are sent
+     * right away and again after every change, until the tournament finishes.
+     *
+     * @param tournamentId the unique identifier of the tournament
+     * @return the emitter the standings are pushed to as server-sent events
+     */
+    public SseEmitter subscribe(Long tournamentId) {
+        Tournament tournament = findTournament(tournamentId);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        if (tournament.getStatus() == TournamentStatus.FINISHED) {
+            send(emitter, encode(getStandings(tournamentId)));
+            emitter.complete();
+            return emitter;
+        }
+
+        LiveStandings standings = live(tournamentId);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> standings.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> standings.subscribers.remove(subscriber));
+        emitter.onError(error -> standings.subscribers.remove(subscriber));
+        Frame frame;
+        synchronized (standings.sending) {
+            // finished since it was looked up, the final standings are sent and the stream ends
+            boolean closed = standings.isClosed();
+            if (!closed) {
+                standings.subscribers.add(subscriber);
+            }
+            frame = standings.frame(encode(standings.ranked()), closed);
+        }
+        subscriber.offer(frame);
+        return emitter;
+    }
+
+    /**
+     * Freezes the standings of a tournament and writes them as its final leaderboard.
+     * Games still in progress are ranked as unsolved.
+     *
+     * @param tournament the open tournament to finish
+     * @return the final standings
+     */
+    @Transactional
+    public List<StandingResponse> finish(Tournament tournament) {
+        LiveStandings standings = live(tournament.getId());
+        List<StandingResponse> ranked;
+        Frame frame;
+        synchronized (standings.sending) {
+            ranked = standings.close();
+            frame = standings.frame(encode(ranked), true);
+        }
+
+        tournament.setStatus(TournamentStatus.FINISHED);
+        tournamentRepository.save(tournament);
+        standingRepository.saveAll(ranked.stream()
+                .map(standing -> TournamentStanding.builder()
+                        .tournamentId(tournament.getId())
+                        .rank(standing.getRank())
+                        .player(standing.getPlayer())
+                        .gameId(standing.getGameId())
+                        .status(standing.getStatus())
+                        .attemptsUsed(standing.getAttemptsUsed())
+                        .solvedOrder(standing.getSolvedOrder())
+                        .build())
+                .toList());
+        // the closed standings stay cached, so late updates of its games do not load them again
+
+        for (Subscriber subscriber : standings.subscribers) {
+            subscriber.offer(frame);
+        }
+        standings.subscribers.clear();
+        return ranked;
+    }
+
+    private LiveStandings live(Long tournamentId) {
+        return live.computeIfAbsent(tournamentId, id -> {
+            Tournament tournament = findTournament(id);
+            LiveStandings standings = new LiveStandings(tournament.getStatus() == TournamentStatus.FINISHED);
+            // after a restart, games solved before it are ordered by creation
+            for (Game game : gameRepository.findAllByTournamentIdOrderByIdAsc(id)) {
+                standings.update(game, attemptsUsed(game));
+            }
+            return standings;
+        });
+    }
+
+    private void schedulePublish(LiveStandings standings) {
+        if (standings.subscribers.isEmpty() || !standings.publishPending.compareAndSet(false, true)) {
+            return;
+        }
+        publisher.execute(() -> {
+            // clear first so that an update arriving while encoding schedules another publication
+            standings.publishPending.set(false);
+            Frame frame;
+            synchronized (standings.sending) {
+                if (standings.isClosed()) {
+                    return;
+                }
+                frame = standings.frame(encode(standings.ranked()), false);
+            }
+            long now = System.nanoTime();
+            long timeout = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+            for (Subscriber subscriber : standings.subscribers) {
+                if (subscriber.isStuck(now, timeout)) {
+                    standings.subscribers.remove(subscriber);
+                    subscriber.drop();
+                } else {
+                    subscriber.offer(frame);
+                }
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, byte[] encoded) {
+        try {
+            emitter.send(SseEmitter.event().name(STANDINGS_EVENT).data(encoded, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private byte[] encode(List<StandingResponse> standings) {
+        try {
+            return objectMapper.writeValueAsBytes(standings);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int attemptsUsed(Game game) {
+        if (game.getDifficulty() == null) {
+            return 0;
+        }
+        return gameProperties.getAllowedAttempts(game.getDifficulty()) - game.getRemainingAttempts();
+    }
+
+    private Tournament findTournament(Long tournamentId) {
+        return tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new NoTournamentFoundException(tournamentId));
+    }
+
+    private record Frame(long sequence, byte[] encoded, boolean last) {
+    }
+
+    /**
+     * A subscriber's stream, holding only the newest frame not sent yet and written to by one
+     * publisher task at a time.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<Frame> next = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // System.nanoTime() when the current send started, 0 while not sending
+        private volatile long sendingSince;
+        private volatile boolean dropped;
+        // only accessed by the draining task
+        private long sentSequence;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Frame frame) {
+            next.accumulateAndGet(frame, (current, offered) ->
+                    current == null || offered.sequence() > current.sequence() ? offered : current);
+            if (draining.compareAndSet(false, true)) {
+                publisher.execute(this::drain);
+            }
+        }
+
+        private boolean isStuck(long now, long timeout) {
+            long since = sendingSince;
+            return since != 0 && now - since > timeout;
+        }
+
+        private void drop() {
+            dropped = true;
+            // completed by the stuck task once its send returns, completing here would wait on it
+            if (draining.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            do {
+                Frame frame;
+                while (!dropped && (frame = next.getAndSet(null)) != null) {
+                    if (frame.sequence() <= sentSequence) {
+                        continue;
+                    }
+                    sentSequence = frame.sequence();
+                    sendingSince = System.nanoTime();
+                    send(emitter, frame.encoded());
+                    sendingSince = 0;
+                    if (frame.last()) {
+                        emitter.complete();
+                    }
+                }
+                if (dropped) {
+                    emitter.complete();
+                    return;
+                }
+                draining.set(false);
+                // a frame may have been offered after the last poll but before the flag was cleared
+            } while (next.get() != null && draining.compareAndSet(false, true));
+        }
+    }
+
+    private static final class LiveStandings {
+
+        private final Map<Long, StandingResponse> entries = new HashMap<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean publishPending = new AtomicBoolean();
+        // held while frames are numbered, separate from the monitor guarding the entries
+        private final Object sending = new Object();
+        // guarded by sending
+        private long sequence;
+        private int solved;
+        private boolean closed;
+
+        private LiveStandings(boolean closed) {
+            this.closed = closed;
+        }
+
+        private synchronized boolean update(Game game, int attemptsUsed) {
+            if (closed) {
+                return false;
+            }
+            StandingResponse entry = entries.computeIfAbsent(game.getId(), id ->
+                    new StandingResponse(0, game.getPlayer(), id, GameStatus.IN_PROGRESS, 0, null));
+            if (entry.getSolvedOrder() == null && game.getStatus() == GameStatus.WON) {
+                entry.setSolvedOrder(++solved);
+            }
+            entry.setStatus(game.getStatus() == null ? GameStatus.IN_PROGRESS : game.getStatus());
+            entry.setAttemptsUsed(attemptsUsed);
+            return true;
+        }
+
+        private synchronized List<StandingResponse> ranked() {
+            List<StandingResponse> result = new ArrayList<>(entries.size());
+            for (StandingResponse entry : entries.values()) {
+                result.add(new StandingResponse(0, entry.getPlayer(), entry.getGameId(), entry.getStatus(),
+                        entry.getAttemptsUsed(), entry.getSolvedOrder()));
+            }
+            result.sort(RANKING);
+            for (int index = 0; index < result.size(); index++) {
+                result.get(index).setRank(index + 1);
+            }
+            return result;
+        }
+
+        private synchronized List<StandingResponse> close() {
+            closed = true;
+            return ranked();
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private Frame frame(byte[] encoded, boolean last) {
+            return new Frame(++sequence, encoded, last);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.DictionaryProperties;
+import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.dictionary.Dictionary;
+import com.cctalents.code_words.dictionary.WordListReader;
+import com.cctalents.code_words.dto.WordImportResponse;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.ImportStatus;
+import com.cctalents.code_words.exception.InvalidWordImportException;
+import com.cctalents.code_words.exception.WordImportInProgressException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service class importing word lists into the words table.
+ * <p>
+ * Lists are streamed line by line and upserted in batches of
+ * {@code game.dictionary.import-batch-size} words, each committed on its own, so memory
+ * use does not depend on the size of the list. A word already stored for its locale gets
+ * the imported difficulty. Once the list is read, the cached dictionaries of the imported
+ * locales are reloaded and swapped in, and games keep using the previous word list until then.
+ * </p>
+ * <p>
+ * One import runs at a time. Its progress can be followed through {@link #getLastImport()}.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WordImportService {
+
+    private static final String COUNT_WORDS = "SELECT COUNT(*) FROM words";
+    private static final String UPSERT_WORD = "MERGE INTO words (name, difficulty, locale) KEY (name, locale) VALUES (?, ?, ?)";
+    private static final int MAX_WORD_LENGTH = 255;
+    private static final int MAX_ERRORS = 20;
+    private static final String UNDETERMINED_LOCALE = "und";
+    private static final long PROGRESS_LOG_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final DictionaryProperties properties;
+    private final GameProperties gameProperties;
+    private final DictionaryService dictionaryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock importLock = new ReentrantLock();
+    private volatile WordImportResponse lastImport;
+
+    /**
+     * Imports a word list read from a stream, e.g. a request body.
+     *
+     * @param input the UTF-8 encoded list, not closed by this method
+     * @param format the format of the list
+     * @param locale the locale of the words without one, or empty for the default locale
+     * @param source a description of where the list comes from, for the report
+     * @return the report of the finished import
+     * @throws WordImportInProgressException if another import is running
+     */
+    public WordImportResponse importWords(InputStream input, WordListReader.Format format, String locale, String source) {
+        if (!importLock.tryLock()) {
+            throw new WordImportInProgressException();
+        }
+        try {
+            return run(input, format, locale, source);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    /**
+     * Imports a word list file from the {@code game.dictionary.import-directory}.
+     *
+     * @param path the path of the file, relative to the import directory
+     * @param format the format of the list, or {@code null} to guess it from the file name
+     * @param locale the locale of the words without one, or empty for the default locale
+     * @return the report of the finished import
+     * @throws InvalidWordImportException if the path is not a file of the import directory
+     */
+    public WordImportResponse importFile(String path, WordListReader.Format format, String locale) {
+        Path directory = Path.of(properties.getImportDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(path).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new InvalidWordImportException("No file " + path + " in the import directory");
+        }
+        try (InputStream input = Files.newInputStream(file)) {
+            return importWords(input, format == null ? WordListReader.Format.of(file.getFileName().toString()) : format,
+                    locale, file.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + file, e);
+        }
+    }
+
+    /**
+     * @return the report of the running import, or of the last one if none is running
+     */
+    public Optional<WordImportResponse> getLastImport() {
+        return Optional.ofNullable(lastImport);
+    }
+
+    private WordImportResponse run(InputStream input, WordListReader.Format format, String locale, String source) {
+        String defaultLocale = StringUtils.hasText(locale) ? locale : gameProperties.getDefaultLocale();
+        ImportRun run = new ImportRun(source, format, System.nanoTime());
+        long before = countWords();
+        lastImport = run.toResponse(ImportStatus.RUNNING, 0);
+
+        ImportStatus status = ImportStatus.FAILED;
+        WordImportResponse report;
+        try (WordListReader reader = new WordListReader(input, format, objectMapper.reader())) {
+            long lastLog = run.start;
+            for (WordListReader.Row row = reader.next(); row != null; row = reader.next()) {
+                run.rows++;
+                add(run, row, defaultLocale);
+                if (run.batch.size() >= properties.getImportBatchSize()) {
+                    flush(run);
+                    lastImport = run.toResponse(ImportStatus.RUNNING, 0);
+                    if (System.nanoTime() - lastLog >= PROGRESS_LOG_NANOS) {
+                        lastLog = System.nanoTime();
+                        log.info("Importing words from {}: {} rows read, {} upserted", source, run.rows, run.upserted);
+                    }
+                }
+            }
+            flush(run);
+            status = ImportStatus.COMPLETED;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the word list from " + source, e);
+        } finally {
+            // batches committed before a failure are served as well
+            report = finish(run, status, before);
+            lastImport = report;
+            log.info("Imported words from {}: {}", source, report);
+        }
+        return report;
+    }
+
+    /**
+     * Reloads the imported locales and builds the final report. Runs after a failed import
+     * as well, so its own failures are only logged and never replace the import's error.
+     */
+    private WordImportResponse finish(ImportRun run, ImportStatus status, long before) {
+        try {
+            run.refreshed = dictionaryService.reload(run.locales);
+        } catch (RuntimeException e) {
+            log.warn("Unable to reload the dictionaries of {} after importing {}, rebuilding them later",
+                    run.locales, run.source, e);
+            run.locales.forEach(dictionaryService::rebuildLater);
+        }
+        long inserted = 0;
+        try {
+            inserted = countWords() - before;
+        } catch (RuntimeException e) {
+            log.warn("Unable to count the words inserted from {}", run.source, e);
+        }
+        return run.toResponse(status, inserted);
+    }
+
+    private void add(ImportRun run, WordListReader.Row row, String defaultLocale) {
+        String name = row.name() == null ? "" : row.name().trim().toLowerCase(Locale.ROOT);
+        Difficulty difficulty = parseDifficulty(row.difficulty());
+        String locale = Dictionary.normalize(StringUtils.hasText(row.locale()) ? row.locale() : defaultLocale);
+
+        String error = row.error() != null ? row.error() : validate(row, name, difficulty, locale);
+        if (error != null) {
+            run.rejected++;
+            if (run.errors.size() < MAX_ERRORS) {
+                run.errors.add("line " + row.line() + ": " + error);
+            }
+            return;
+        }
+        if (run.batch.put(locale + ':' + name, new Object[]{name, difficulty.name(), locale}) != null) {
+            run.duplicates++;
+        }
+        run.locales.add(locale);
+    }
+
+    private String validate(WordListReader.Row row, String name, Difficulty difficulty, String locale) {
+        if (name.isEmpty() || name.length() > MAX_WORD_LENGTH) {
+            return "name must have 1 to " + MAX_WORD_LENGTH + " characters";
+        }
+        if (!name.codePoints().allMatch(Character::isLetter)) {
+            return "name " + name + " must only contain letters";
+        }
+        if (difficulty == null) {
+            return "invalid difficulty " + row.difficulty();
+        }
+        if (UNDETERMINED_LOCALE.equals(locale)) {
+            return "invalid locale " + row.locale();
+        }
+        return null;
+    }
+
+    private Difficulty parseDifficulty(String difficulty) {
+        if (difficulty == null) {
+            return null;
+        }
+        try {
+            return Difficulty.valueOf(difficulty.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void flush(ImportRun run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        List<Object[]> words = new ArrayList<>(run.batch.values());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPSERT_WORD, words));
+        run.upserted += words.size();
+        run.batches++;
+        run.batch.clear();
+    }
+
+    private long countWords() {
+        Long count = jdbcTemplate.queryForObject(COUNT_WORDS, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static class ImportRun {
+
+        private final String source;
+        private final WordListReader.Format format;
+        private final long start;
+        // keyed by locale and name, so a batch never upserts a word twice
+        private final Map<String, Object[]> batch = new LinkedHashMap<>();
+        private final Set<String> locales = new TreeSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private List<String> refreshed = List.of();
+        private long rows;
+        private long rejected;
+        private long duplicates;
+        private long upserted;
+        private long batches;
+
+        private ImportRun(String source, WordListReader.Format format, long start) {
+            this.source = source;
+            this.format = format;
+            this.start = start;
+        }
+
+        private WordImportResponse toResponse(ImportStatus status, long inserted) {
+            long elapsedNanos = System.nanoTime() - start;
+            return WordImportResponse.builder()
+                    .status(status)
+                    .source(source)
+                    .format(format.name())
+                    .rows(rows)
+                    .rejected(rejected)
+                    .duplicates(duplicates)
+                    .upserted(upserted)
+                    .inserted(inserted)
+                    .batches(batches)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .wordsPerSecond(elapsedNanos == 0 ? 0 : upserted * 1_000_000_000.0 / elapsedNanos)
+                    .refreshedLocales(refreshed)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
@@ -1,31 +1,93 @@
 package com.cctalents.code_words.service;
 
-import com.cctalents.code_words.entity.Word;
+import com.cctalents.code_words.dictionary.Dictionary;
+import com.cctalents.code_words.dto.WordWeightsResponse;
 import com.cctalents.code_words.enums.Difficulty;
-import com.cctalents.code_words.repository.WordRepository;
+import com.cctalents.code_words.exception.InvalidWordWeightException;
+import com.cctalents.code_words.exception.UnsupportedLocaleException;
+import com.cctalents.code_words.jfr.WordSelectionEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 public class WordService {
 
-    private final WordRepository repository;
+    private static final String UPDATE_WEIGHT = "UPDATE words SET weight = ? WHERE locale = ? AND name = ?";
 
-    public Word getWordByName(String word) {
-        return repository.findByName(word);
-    }
+    private final DictionaryService dictionaryService;
+    private final JdbcTemplate jdbcTemplate;
 
-    public String getRandomWordByDifficulty(Difficulty difficulty) {
-        List<Word> words = repository.findAllByDifficulty(difficulty);
-        return getRandomElement(words).getName();
+    /**
+     * Picks a random word of the given locale and difficulty, with probability proportional
+     * to its weight, emitting a {@link WordSelectionEvent} while a JFR recording is running.
+     *
+     * @param locale the locale of the word
+     * @param difficulty the difficulty of the word
+     * @return the picked word
+     */
+    public String getRandomWord(String locale, Difficulty difficulty) {
+        WordSelectionEvent event = WordSelectionEvent.start(locale, difficulty.name());
+        try {
+            long t = event.mark();
+            Dictionary dictionary = dictionaryService.getDictionary(locale);
+            t = event.repository(t);
+            if (dictionary.count(difficulty) == 0) {
+                throw new UnsupportedLocaleException(dictionary.getLocale(), difficulty);
+            }
+            String word = dictionary.sample(difficulty, ThreadLocalRandom.current());
+            event.domain(t);
+            event.setCandidates(dictionary.count(difficulty));
+            return word;
+        } catch (RuntimeException e) {
+            throw event.failure(e);
+        } finally {
+            // the word is never serialized on its own, so there is no phase left to wait for
+            event.commit();
+        }
     }
 
-    private Word getRandomElement(List<Word> words) {
-        Random r = new Random();
-        return words.get(r.nextInt(words.size()));
+    /**
+     * Sets how often words of a locale are picked relative to the other words of their
+     * difficulty, 1 being the default weight and 0 never picking the word, unless every word of
+     * the difficulty weighs 0 and they are picked uniformly. The dictionary of the locale is
+     * rebuilt in the background, so new games use the weights shortly after.
+     *
+     * @param locale the locale of the words
+     * @param weights the new weight of each word
+     * @return the number of words updated and the words not stored for the locale
+     * @throws InvalidWordWeightException if a weight is negative, infinite or missing
+     */
+    public WordWeightsResponse updateWeights(String locale, Map<String, Double> weights) {
+        String normalized = Dictionary.normalize(locale);
+        List<String> names = new ArrayList<>(weights.size());
+        List<Object[]> updates = new ArrayList<>(weights.size());
+        weights.forEach((name, weight) -> {
+            if (weight == null || !(weight >= 0) || weight.isInfinite()) {
+                throw new InvalidWordWeightException(name, weight);
+            }
+            String word = name.trim().toLowerCase(Locale.ROOT);
+            names.add(word);
+            updates.add(new Object[]{weight, normalized, word});
+        });
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_WEIGHT, updates);
+        List<String> unknown = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                unknown.add(names.get(i));
+            }
+        }
+        if (unknown.size() < counts.length) {
+            dictionaryService.rebuildLater(normalized);
+        }
+        return new WordWeightsResponse(normalized, counts.length - unknown.size(), unknown);
     }
 }
@@ -0,0 +1,28 @@
+package com.cctalents.code_words.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Guesses letters from the most to the least frequent in English text, the way most
+ * players do.
+ */
+public class FrequencyStrategy implements GuessStrategy {
+
+    private static final String BY_FREQUENCY = "etaoinshrdlcumwfgypbvkjxqz";
+
+    @Override
+    public String name() {
+        return "frequency";
+    }
+
+    @Override
+    public char nextGuess(SimulatedGame game, RandomGenerator random) {
+        for (int index = 0; index < BY_FREQUENCY.length(); index++) {
+            char letter = BY_FREQUENCY.charAt(index);
+            if (!game.isGuessed(letter)) {
+                return letter;
+            }
+        }
+        throw new IllegalStateException("Every letter was guessed already");
+    }
+}
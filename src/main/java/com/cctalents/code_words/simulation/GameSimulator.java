@@ -0,0 +1,60 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.enums.Difficulty;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Plays simulated games in parallel on every core, entirely in memory.
+ * <p>
+ * The games are split into chunks run by the common fork-join pool. Each chunk reuses
+ * a single {@link SimulatedGame}, draws from its own seeded random source and fills its
+ * own histogram, so games allocate nothing on their own, threads share nothing until
+ * the histograms are merged, and a run is reproducible for a given seed.
+ * </p>
+ */
+public class GameSimulator {
+
+    private static final int MAX_MISSES = 26;
+    private static final int CHUNKS_PER_CORE = 8;
+
+    private final int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_CORE;
+
+    public SimulationResult simulate(Difficulty difficulty, List<String> words, GuessStrategy strategy,
+                                     long games, long seed) {
+        String[] dictionary = words.toArray(String[]::new);
+        long[][] histograms = new long[chunks][];
+        long[] unsolved = new long[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long[] histogram = new long[MAX_MISSES + 1];
+            SplittableRandom random = new SplittableRandom(seed + chunk);
+            SimulatedGame game = new SimulatedGame();
+            long count = games / chunks + (chunk < games % chunks ? 1 : 0);
+            for (long i = 0; i < count; i++) {
+                game.reset(dictionary[random.nextInt(dictionary.length)]);
+                while (!game.isSolved() && !game.isAllGuessed()) {
+                    game.guess(strategy.nextGuess(game, random));
+                }
+                if (game.isSolved()) {
+                    histogram[game.getMisses()]++;
+                } else {
+                    unsolved[chunk]++;
+                }
+            }
+            histograms[chunk] = histogram;
+        });
+
+        long[] merged = new long[MAX_MISSES + 1];
+        long unsolvedTotal = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            for (int misses = 0; misses < merged.length; misses++) {
+                merged[misses] += histograms[chunk][misses];
+            }
+            unsolvedTotal += unsolved[chunk];
+        }
+        return new SimulationResult(difficulty, strategy.name(), merged, unsolvedTotal);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cctalents.code_words.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks the next letter a simulated player guesses.
+ */
+public interface GuessStrategy {
+
+    String name();
+
+    /**
+     * @param game the current state of the game
+     * @param random the random source of the simulation thread
+     * @return a letter from a to z that was not guessed yet in this game
+     */
+    char nextGuess(SimulatedGame game, RandomGenerator random);
+}
@@ -0,0 +1,34 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.solver.WordIndex;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Guesses the letter the hint endpoint would suggest, knowing the whole dictionary.
+ * This is an upper bound for players and the slowest strategy, since it has to copy
+ * the masked word for every guess.
+ */
+public class OptimalStrategy implements GuessStrategy {
+
+    private final WordIndex index;
+    private final GuessStrategy fallback = new FrequencyStrategy();
+
+    public OptimalStrategy(WordIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public String name() {
+        return "optimal";
+    }
+
+    @Override
+    public char nextGuess(SimulatedGame game, RandomGenerator random) {
+        Character letter = index.suggest(game.maskedWord(), game.missedLetters()).letter();
+        if (letter == null || letter < 'a' || letter > 'z' || game.isGuessed(letter)) {
+            return fallback.nextGuess(game, random);
+        }
+        return letter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.cctalents.code_words.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Guesses any letter not guessed yet, uniformly at random.
+ */
+public class RandomStrategy implements GuessStrategy {
+
+    @Override
+    public String name() {
+        return "random";
+    }
+
+    @Override
+    public char nextGuess(SimulatedGame game, RandomGenerator random) {
+        char letter;
+        do {
+            letter = (char) ('a' + random.nextInt(26));
+        } while (game.isGuessed(letter));
+        return letter;
+    }
+}
@@ -0,0 +1,94 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.util.GameUtil;
+
+/**
+ * Mutable, reusable game state for simulations.
+ * <p>
+ * Guesses are applied with the same {@link GameUtil#reveal} rule as the real games,
+ * and a game is won once no letter is hidden anymore. There is no attempt budget:
+ * the game is played until solved and the misses it took are counted instead, so a
+ * single run tells whether the game would have been won for every budget.
+ * One instance is reused by a simulation thread for all of its games.
+ * </p>
+ */
+public final class SimulatedGame {
+
+    private static final int MAX_LENGTH = 64;
+    private static final int ALL_GUESSED = (1 << 26) - 1;
+
+    private final char[] masked = new char[MAX_LENGTH];
+    private final StringBuilder missedLetters = new StringBuilder(26);
+    private String word;
+    private int hidden;
+    private int misses;
+    // one bit per guessed letter from a to z
+    private int guessed;
+
+    public void reset(String word) {
+        this.word = word;
+        hidden = 0;
+        misses = 0;
+        guessed = 0;
+        missedLetters.setLength(0);
+        for (int index = 0; index < word.length(); index++) {
+            char c = word.charAt(index);
+            if (Character.isLetter(c)) {
+                masked[index] = '_';
+                hidden++;
+            } else {
+                masked[index] = c;
+            }
+        }
+    }
+
+    /**
+     * Applies a letter guess.
+     *
+     * @param letter a letter from a to z that was not guessed yet
+     * @return whether the letter is in the word
+     */
+    public boolean guess(char letter) {
+        guessed |= 1 << (letter - 'a');
+        int revealed = GameUtil.reveal(masked, word, letter);
+        if (revealed == 0) {
+            misses++;
+            missedLetters.append(letter);
+            return false;
+        }
+        hidden -= revealed;
+        return true;
+    }
+
+    public boolean isSolved() {
+        return hidden == 0;
+    }
+
+    public boolean isAllGuessed() {
+        return guessed == ALL_GUESSED;
+    }
+
+    public boolean isGuessed(char letter) {
+        return (guessed & (1 << (letter - 'a'))) != 0;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int length() {
+        return word.length();
+    }
+
+    /**
+     * Copies the masked word into a string, which allocates and is only meant for
+     * strategies that need it.
+     */
+    public String maskedWord() {
+        return new String(masked, 0, word.length());
+    }
+
+    public String missedLetters() {
+        return missedLetters.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.enums.Difficulty;
+
+/**
+ * Outcome of simulating many games of one difficulty with one strategy, kept as a
+ * histogram of the misses each game took to be solved.
+ */
+public record SimulationResult(Difficulty difficulty, String strategy, long[] missesHistogram, long unsolved) {
+
+    public long games() {
+        long games = unsolved;
+        for (long count : missesHistogram) {
+            games += count;
+        }
+        return games;
+    }
+
+    /**
+     * A game is lost as soon as its misses reach the budget, so it is won for every
+     * budget above the misses it took to be solved.
+     *
+     * @param allowedAttempts the attempt budget
+     * @return the share of games that would have been won with that budget
+     */
+    public double winRate(int allowedAttempts) {
+        long won = 0;
+        for (int misses = 0; misses < Math.min(allowedAttempts, missesHistogram.length); misses++) {
+            won += missesHistogram[misses];
+        }
+        return (double) won / games();
+    }
+}
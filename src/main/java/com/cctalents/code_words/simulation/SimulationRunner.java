@@ -0,0 +1,116 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.solver.WordIndex;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Offline tool printing win-rate curves per difficulty and attempt budget for each
+ * guessing strategy, to tune the {@code game.difficulty.*.allowed-attempts} settings.
+ * <p>
+ * Run with {@code ./mvnw compile exec:java -Dexec.mainClass=com.cctalents.code_words.simulation.SimulationRunner
+ * -Dexec.args="--games=1000000 --strategies=frequency,random,optimal --max-attempts=12 --target=0.5"}.
+ * With a target win rate, it also prints the smallest budget reaching it per difficulty
+ * for the first strategy.
+ * </p>
+ */
+public class SimulationRunner {
+
+    private static final String WORDS_LOCATION = "/words.csv";
+    private static final String ENGLISH = "en";
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        long games = Long.parseLong(options.getOrDefault("games", "1000000"));
+        int maxAttempts = Integer.parseInt(options.getOrDefault("max-attempts", "12"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        List<String> strategyNames = List.of(options.getOrDefault("strategies", "frequency,random,optimal").split(","));
+
+        Map<Difficulty, List<String>> words = readWords();
+        GameSimulator simulator = new GameSimulator();
+
+        StringBuilder header = new StringBuilder(String.format("%-10s %-10s %10s", "difficulty", "strategy", "games/s"));
+        for (int attempts = 1; attempts <= maxAttempts; attempts++) {
+            header.append(String.format(" %5d", attempts));
+        }
+        System.out.println(header);
+
+        Map<Difficulty, SimulationResult> recommendations = new EnumMap<>(Difficulty.class);
+        for (String strategyName : strategyNames) {
+            for (Map.Entry<Difficulty, List<String>> entry : words.entrySet()) {
+                GuessStrategy strategy = strategy(strategyName, entry.getValue());
+                long start = System.nanoTime();
+                SimulationResult result = simulator.simulate(entry.getKey(), entry.getValue(), strategy, games, seed);
+                long gamesPerSecond = games * 1_000_000_000L / Math.max(1, System.nanoTime() - start);
+
+                StringBuilder line = new StringBuilder(String.format("%-10s %-10s %10d",
+                        entry.getKey(), strategyName, gamesPerSecond));
+                for (int attempts = 1; attempts <= maxAttempts; attempts++) {
+                    line.append(String.format(" %5.3f", result.winRate(attempts)));
+                }
+                System.out.println(line);
+                recommendations.putIfAbsent(entry.getKey(), result);
+            }
+        }
+
+        if (options.containsKey("target")) {
+            double target = Double.parseDouble(options.get("target"));
+            System.out.printf("%nSmallest budgets reaching a %.0f%% win rate with the %s strategy:%n",
+                    target * 100, strategyNames.get(0));
+            recommendations.forEach((difficulty, result) -> {
+                int attempts = 1;
+                while (attempts < 27 && result.winRate(attempts) < target) {
+                    attempts++;
+                }
+                System.out.printf("game.difficulty.%s.allowed-attempts=%d%n",
+                        difficulty.name().toLowerCase(Locale.ROOT), attempts);
+            });
+        }
+    }
+
+    private static GuessStrategy strategy(String name, List<String> words) {
+        return switch (name) {
+            case "frequency" -> new FrequencyStrategy();
+            case "random" -> new RandomStrategy();
+            case "optimal" -> new OptimalStrategy(WordIndex.build(words));
+            default -> throw new IllegalArgumentException("Unknown strategy " + name);
+        };
+    }
+
+    private static Map<Difficulty, List<String>> readWords() throws IOException {
+        Map<Difficulty, List<String>> words = new EnumMap<>(Difficulty.class);
+        try (InputStream in = SimulationRunner.class.getResourceAsStream(WORDS_LOCATION)) {
+            if (in == null) {
+                throw new IOException("Missing " + WORDS_LOCATION);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            // skip the header
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",");
+                // the strategies only know the english alphabet
+                if (columns.length >= 3 && ENGLISH.equals(columns[2].trim())) {
+                    words.computeIfAbsent(Difficulty.valueOf(columns[1].trim()), difficulty -> new ArrayList<>())
+                            .add(columns[0].trim());
+                }
+            }
+        }
+        return words;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
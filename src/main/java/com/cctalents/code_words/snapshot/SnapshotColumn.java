@@ -0,0 +1,27 @@
+package com.cctalents.code_words.snapshot;
+
+import java.sql.Types;
+
+/**
+ * Column of a snapshotted table, with the compact kind its values are stored as.
+ */
+public record SnapshotColumn(String name, Kind kind) {
+
+    public enum Kind {
+        LONG, INT, DOUBLE, BOOLEAN, STRING;
+
+        /**
+         * Picks how values of a JDBC type are stored. Types without a dedicated kind,
+         * such as enums, are stored as their string form, which the database converts back.
+         */
+        public static Kind of(int sqlType) {
+            return switch (sqlType) {
+                case Types.BIGINT -> LONG;
+                case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> INT;
+                case Types.DOUBLE, Types.FLOAT, Types.REAL -> DOUBLE;
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                default -> STRING;
+            };
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.cctalents.code_words.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a file written by {@link SnapshotWriter} through a read-only memory mapping, so
+ * restoring decodes straight from the page cache without copying the file through
+ * stream buffers.
+ */
+public class SnapshotReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long takenAt;
+    private final int tables;
+    private int tablesRead;
+    private String table;
+    private List<SnapshotColumn> columns;
+    private byte[] scratch = new byte[64];
+
+    public SnapshotReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + file + " is too large to be mapped at once");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SnapshotWriter.MAGIC || buffer.getInt() != SnapshotWriter.FORMAT) {
+                throw new IOException("Unsupported snapshot " + file);
+            }
+            takenAt = buffer.getLong();
+            tables = buffer.getInt();
+        } catch (IOException | BufferUnderflowException e) {
+            channel.close();
+            throw e instanceof IOException io ? io : new IOException("Truncated snapshot " + file, e);
+        }
+    }
+
+    public long getTakenAt() {
+        return takenAt;
+    }
+
+    /**
+     * Moves to the next table. The rows of the current table must have been read.
+     *
+     * @return false once every table was read
+     */
+    public boolean nextTable() {
+        if (tablesRead == tables) {
+            return false;
+        }
+        tablesRead++;
+        table = readString();
+        int count = buffer.getInt();
+        columns = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            columns.add(new SnapshotColumn(readString(), SnapshotColumn.Kind.values()[buffer.get()]));
+        }
+        return true;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<SnapshotColumn> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Reads the next row of the current table.
+     *
+     * @param values receives one value per column, {@code null} for SQL nulls
+     * @return false at the end of the table
+     */
+    public boolean nextRow(Object[] values) {
+        if (buffer.get() == SnapshotWriter.END_OF_TABLE) {
+            return false;
+        }
+        long nulls = buffer.getLong();
+        for (int index = 0; index < columns.size(); index++) {
+            values[index] = (nulls & (1L << index)) != 0 ? null : read(columns.get(index).kind());
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Object read(SnapshotColumn.Kind kind) {
+        return switch (kind) {
+            case LONG -> buffer.getLong();
+            case INT -> buffer.getInt();
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case STRING -> readString();
+        };
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package com.cctalents.code_words.snapshot;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes tables to a snapshot file, row by row, so that tables of any size are written
+ * without being held in memory.
+ * <p>
+ * The layout is a header followed by each table: its name and columns, then one
+ * {@link #ROW} marker per row carrying a null bitmap and the non-null values, and an
+ * {@link #END_OF_TABLE} marker. Numbers are fixed width big-endian and strings are
+ * length-prefixed UTF-8, so that {@link SnapshotReader} can decode a mapped file directly.
+ * </p>
+ */
+public class SnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x43575331;
+    static final int FORMAT = 1;
+    static final byte ROW = 1;
+    static final byte END_OF_TABLE = 0;
+    static final int MAX_COLUMNS = Long.SIZE;
+
+    private final DataOutputStream out;
+    private List<SnapshotColumn> columns;
+    private long rows;
+
+    public SnapshotWriter(Path file, long takenAt, int tables) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT);
+        out.writeLong(takenAt);
+        out.writeInt(tables);
+    }
+
+    public void beginTable(String name, List<SnapshotColumn> columns) throws IOException {
+        if (columns.size() > MAX_COLUMNS) {
+            throw new IOException("Table " + name + " has more than " + MAX_COLUMNS + " columns");
+        }
+        this.columns = columns;
+        writeString(name);
+        out.writeInt(columns.size());
+        for (SnapshotColumn column : columns) {
+            writeString(column.name());
+            out.writeByte(column.kind().ordinal());
+        }
+    }
+
+    /**
+     * Writes the current row of a result set whose columns are in the order given to
+     * {@link #beginTable}.
+     */
+    public void writeRow(ResultSet row) throws IOException, SQLException {
+        Object[] values = new Object[columns.size()];
+        long nulls = 0;
+        for (int index = 0; index < values.length; index++) {
+            values[index] = read(row, index + 1, columns.get(index).kind());
+            if (values[index] == null) {
+                nulls |= 1L << index;
+            }
+        }
+
+        out.writeByte(ROW);
+        out.writeLong(nulls);
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                write(values[index], columns.get(index).kind());
+            }
+        }
+        rows++;
+    }
+
+    public void endTable() throws IOException {
+        out.writeByte(END_OF_TABLE);
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static Object read(ResultSet row, int column, SnapshotColumn.Kind kind) throws SQLException {
+        Object value = switch (kind) {
+            case LONG -> row.getLong(column);
+            case INT -> row.getInt(column);
+            case DOUBLE -> row.getDouble(column);
+            case BOOLEAN -> row.getBoolean(column);
+            case STRING -> row.getString(column);
+        };
+        return row.wasNull() ? null : value;
+    }
+
+    private void write(Object value, SnapshotColumn.Kind kind) throws IOException {
+        switch (kind) {
+            case LONG -> out.writeLong((Long) value);
+            case INT -> out.writeInt((Integer) value);
+            case DOUBLE -> out.writeDouble((Double) value);
+            case BOOLEAN -> out.writeBoolean((Boolean) value);
+            case STRING -> writeString((String) value);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,211 @@
+package com.cctalents.code_words.solver;
+
+import java.util.*;
+
+/**
+ * Immutable bitset index over a word list used to find the most informative next letter
+ * for a masked word.
+ * <p>
+ * Words are grouped by length, and within a group every word is a bit. For each
+ * (position, letter) pair and for each letter's presence anywhere in the word the index
+ * precomputes the set of words matching it, so that the candidates of a masked word are
+ * found by intersecting bitsets and each letter is scored with population counts,
+ * without looking at a single word.
+ * </p>
+ */
+public final class WordIndex {
+
+    public static final char MASK = '_';
+
+    private final Map<Integer, Group> groups;
+    private final int size;
+
+    private WordIndex(Map<Integer, Group> groups, int size) {
+        this.groups = groups;
+        this.size = size;
+    }
+
+    public static WordIndex build(Collection<String> words) {
+        Map<Integer, List<String>> byLength = new HashMap<>();
+        for (String word : words) {
+            byLength.computeIfAbsent(word.length(), length -> new ArrayList<>()).add(word);
+        }
+
+        Map<Integer, Group> groups = new HashMap<>();
+        byLength.forEach((length, group) -> groups.put(length, new Group(length, group)));
+        return new WordIndex(groups, words.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the letter whose guess splits the remaining candidates most evenly between
+     * words containing it and words that do not, preferring likelier hits on ties.
+     *
+     * @param maskedWord the current masked word, with {@link #MASK} for hidden letters
+     * @param missedLetters the letters already guessed that are not in the word
+     * @return the suggested letter and the number of candidate words left
+     */
+    public Hint suggest(String maskedWord, String missedLetters) {
+        Group group = groups.get(maskedWord.length());
+        if (group == null) {
+            return new Hint(null, 0);
+        }
+
+        long[] candidates = group.candidates(maskedWord, missedLetters);
+        int total = popCount(candidates);
+        if (total == 0) {
+            return new Hint(null, 0);
+        }
+
+        boolean[] guessed = group.guessed(maskedWord, missedLetters);
+        int best = -1;
+        int bestSplit = -1;
+        int bestHits = 0;
+        for (int letter = 0; letter < group.alphabet.length; letter++) {
+            if (guessed[letter]) {
+                continue;
+            }
+            int hits = popCountAnd(candidates, group.presence[letter]);
+            if (hits == 0) {
+                continue;
+            }
+            int split = Math.min(hits, total - hits);
+            if (split > bestSplit || (split == bestSplit && hits > bestHits)) {
+                best = letter;
+                bestSplit = split;
+                bestHits = hits;
+            }
+        }
+        return new Hint(best < 0 ? null : group.alphabet[best], total);
+    }
+
+    private static int popCount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int popCountAnd(long[] left, long[] right) {
+        int count = 0;
+        for (int i = 0; i < left.length; i++) {
+            count += Long.bitCount(left[i] & right[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Suggested letter, or {@code null} when no candidate word has an unguessed letter left.
+     */
+    public record Hint(Character letter, int candidates) {
+    }
+
+    private static final class Group {
+
+        private final char[] alphabet;
+        private final Map<Character, Integer> letters = new HashMap<>();
+        private final long[] all;
+        // [letter][words]
+        private final long[][] presence;
+        // [position][letter][words]
+        private final long[][][] positions;
+
+        private Group(int length, List<String> words) {
+            SortedSet<Character> distinct = new TreeSet<>();
+            for (String word : words) {
+                for (int index = 0; index < length; index++) {
+                    distinct.add(word.charAt(index));
+                }
+            }
+            alphabet = new char[distinct.size()];
+            int next = 0;
+            for (char letter : distinct) {
+                letters.put(letter, next);
+                alphabet[next++] = letter;
+            }
+
+            int blocks = (words.size() + Long.SIZE - 1) / Long.SIZE;
+            all = new long[blocks];
+            presence = new long[alphabet.length][blocks];
+            positions = new long[length][alphabet.length][blocks];
+            for (int bit = 0; bit < words.size(); bit++) {
+                String word = words.get(bit);
+                int block = bit / Long.SIZE;
+                long mask = 1L << bit;
+                all[block] |= mask;
+                for (int index = 0; index < length; index++) {
+                    int letter = letters.get(word.charAt(index));
+                    presence[letter][block] |= mask;
+                    positions[index][letter][block] |= mask;
+                }
+            }
+        }
+
+        private long[] candidates(String maskedWord, String missedLetters) {
+            long[] result = all.clone();
+            boolean[] revealed = revealed(maskedWord);
+            for (int index = 0; index < maskedWord.length(); index++) {
+                char c = maskedWord.charAt(index);
+                if (c != MASK) {
+                    Integer letter = letters.get(c);
+                    if (letter == null) {
+                        return new long[all.length];
+                    }
+                    and(result, positions[index][letter]);
+                } else {
+                    // a revealed letter is shown at every position it occurs at
+                    for (int letter = 0; letter < alphabet.length; letter++) {
+                        if (revealed[letter]) {
+                            andNot(result, positions[index][letter]);
+                        }
+                    }
+                }
+            }
+            for (int index = 0; index < missedLetters.length(); index++) {
+                Integer letter = letters.get(missedLetters.charAt(index));
+                if (letter != null) {
+                    andNot(result, presence[letter]);
+                }
+            }
+            return result;
+        }
+
+        private boolean[] guessed(String maskedWord, String missedLetters) {
+            boolean[] result = revealed(maskedWord);
+            for (int index = 0; index < missedLetters.length(); index++) {
+                Integer letter = letters.get(missedLetters.charAt(index));
+                if (letter != null) {
+                    result[letter] = true;
+                }
+            }
+            return result;
+        }
+
+        private boolean[] revealed(String maskedWord) {
+            boolean[] result = new boolean[alphabet.length];
+            for (int index = 0; index < maskedWord.length(); index++) {
+                Integer letter = letters.get(maskedWord.charAt(index));
+                if (letter != null) {
+                    result[letter] = true;
+                }
+            }
+            return result;
+        }
+
+        private static void and(long[] target, long[] bits) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= bits[i];
+            }
+        }
+
+        private static void andNot(long[] target, long[] bits) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] &= ~bits[i];
+            }
+        }
+    }
+}
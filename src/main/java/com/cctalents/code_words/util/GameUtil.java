@@ -5,8 +5,39 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class GameUtil {
 
+    /**
+     * Hides every letter of a word, in any alphabet, leaving other characters visible.
+     *
+     * @param str the word to mask
+     * @return the word with each letter replaced by an underscore
+     */
     public static String mask(String str) {
-        return str.replaceAll("[a-zA-Z]", "_");
+        char[] masked = str.toCharArray();
+        for (int index = 0; index < masked.length; index++) {
+            if (Character.isLetter(masked[index])) {
+                masked[index] = '_';
+            }
+        }
+        return new String(masked);
+    }
+
+    /**
+     * Reveals every occurrence of a letter of the word in its masked form.
+     *
+     * @param masked the masked word, updated in place
+     * @param word the word being guessed
+     * @param letter the guessed letter
+     * @return the number of positions that were revealed by this guess
+     */
+    public static int reveal(char[] masked, String word, char letter) {
+        int revealed = 0;
+        for (int index = 0; index < word.length(); index++) {
+            if (word.charAt(index) == letter && masked[index] != letter) {
+                masked[index] = letter;
+                revealed++;
+            }
+        }
+        return revealed;
     }
 
     public static String spacesInBetween(String str) {
@@ -0,0 +1,65 @@
+package com.cctalents.code_words.util;
+
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.GameStatus;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes the compact text frames of the WebSocket game protocol.
+ * <p>
+ * Clients send the guess itself as the whole frame, e.g. {@code e} or {@code apple}.
+ * The server answers with {@code |}-separated frames whose first field is the frame type:
+ * <ul>
+ *     <li>{@code S|status|attempts|maskedWord} - the full state, sent once on connect</li>
+ *     <li>{@code D|status|attempts|positions} - the positions revealed by the last guess</li>
+ *     <li>{@code E|message} - the guess was rejected, the state did not change</li>
+ * </ul>
+ * Statuses are a single character: {@code P} in progress, {@code W} won and {@code L} lost.
+ * Positions are comma-separated zero-based indices and are empty when nothing was revealed.
+ * </p>
+ */
+@UtilityClass
+public class GuessFrameCodec {
+
+    private static final char SEPARATOR = '|';
+
+    public static String sync(Game game) {
+        return new StringBuilder(game.getMaskedWord().length() + 8)
+                .append('S').append(SEPARATOR)
+                .append(status(game.getStatus())).append(SEPARATOR)
+                .append(game.getRemainingAttempts()).append(SEPARATOR)
+                .append(game.getMaskedWord())
+                .toString();
+    }
+
+    public static String delta(String previousMask, Game game) {
+        StringBuilder frame = new StringBuilder(16)
+                .append('D').append(SEPARATOR)
+                .append(status(game.getStatus())).append(SEPARATOR)
+                .append(game.getRemainingAttempts()).append(SEPARATOR);
+
+        String mask = game.getMaskedWord();
+        boolean first = true;
+        for (int index = 0; index < mask.length(); index++) {
+            if (mask.charAt(index) != previousMask.charAt(index)) {
+                if (!first) {
+                    frame.append(',');
+                }
+                frame.append(index);
+                first = false;
+            }
+        }
+        return frame.toString();
+    }
+
+    public static String error(String message) {
+        return "E" + SEPARATOR + message;
+    }
+
+    private static char status(GameStatus status) {
+        if (status == GameStatus.WON) {
+            return 'W';
+        }
+        return status == GameStatus.LOST ? 'L' : 'P';
+    }
+}
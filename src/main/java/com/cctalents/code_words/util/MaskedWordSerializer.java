@@ -0,0 +1,24 @@
+package com.cctalents.code_words.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a masked word with spaces in between its letters for JSON clients, which
+ * display it as is, and unspaced for binary formats such as CBOR whose clients render
+ * it themselves and should not pay for twice the characters.
+ */
+public class MaskedWordSerializer extends StdSerializer<String> {
+
+    public MaskedWordSerializer() {
+        super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(gen.canWriteBinaryNatively() ? value : GameUtil.spacesInBetween(value));
+    }
+}
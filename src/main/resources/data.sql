@@ -1,20 +0,0 @@
--- EASY
-INSERT INTO words (name, difficulty) VALUES ('apple', 'EASY');
-INSERT INTO words (name, difficulty) VALUES ('cat', 'EASY');
-INSERT INTO words (name, difficulty) VALUES ('sun', 'EASY');
-INSERT INTO words (name, difficulty) VALUES ('book', 'EASY');
-INSERT INTO words (name, difficulty) VALUES ('car', 'EASY');
-
--- MEDIUM
-INSERT INTO words (name, difficulty) VALUES ('laptop', 'MEDIUM');
-INSERT INTO words (name, difficulty) VALUES ('jungle', 'MEDIUM');
-INSERT INTO words (name, difficulty) VALUES ('robot', 'MEDIUM');;
-INSERT INTO words (name, difficulty) VALUES ('guitar', 'MEDIUM');
-INSERT INTO words (name, difficulty) VALUES ('pirate', 'MEDIUM');
-
--- HARD
-INSERT INTO words (name, difficulty) VALUES ('chameleon', 'HARD');
-INSERT INTO words (name, difficulty) VALUES ('whistle', 'HARD');
-INSERT INTO words (name, difficulty) VALUES ('microscope', 'HARD');;
-INSERT INTO words (name, difficulty) VALUES ('galaxy', 'HARD');
-INSERT INTO words (name, difficulty) VALUES ('pyramid', 'HARD');
@@ -0,0 +1,125 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.CodeWordsApplication;
+import com.cctalents.code_words.dto.GameHistoryPageResponse;
+import com.cctalents.code_words.service.GameHistoryService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Compares reading pages deep into a 200k games history by offset and by cursor, among 1M
+ * games, in plain SQL and through the service, and measures exporting the whole history.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.GameHistoryBenchmark}.
+ * </p>
+ */
+public class GameHistoryBenchmark {
+
+    private static final int GAMES = 1_000_000;
+    // every fifth game is played by the benchmarked player
+    private static final int PLAYER_SHARE = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGES = {1, 100, 1000, 9000};
+    private static final int ROUNDS = 50;
+    private static final String PLAYER = "marathon";
+    private static final String INSERT_GAME = "INSERT INTO games (word, masked_word, remaining_attempts, status, "
+            + "player, difficulty, locale, missed_letters, hints_used, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String OFFSET_PAGE = "SELECT * FROM games WHERE player = ? ORDER BY player DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String KEYSET_PAGE = "SELECT * FROM games WHERE player = ? AND id < ? ORDER BY player DESC, id DESC LIMIT ?";
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("history-benchmark");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeWordsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--game.snapshot.directory=" + directory,
+                        "--game.snapshot.restore-on-startup=false",
+                        "--game.snapshot.interval-ms=3600000")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            GameHistoryService service = context.getBean(GameHistoryService.class);
+            insertGames(jdbcTemplate);
+
+            System.out.println(jdbcTemplate.queryForObject("EXPLAIN " + KEYSET_PAGE, String.class,
+                    PLAYER, Long.MAX_VALUE, PAGE_SIZE));
+            System.out.printf("%8s %14s %14s %14s%n", "page", "offset us", "cursor us", "service us");
+            for (int page : PAGES) {
+                Long cursor = cursorOf(service, page);
+                long offsetNanos = time(round -> jdbcTemplate.queryForList(OFFSET_PAGE,
+                        PLAYER, PAGE_SIZE, (page - 1) * PAGE_SIZE + round % 2));
+                long first = cursor == null ? Long.MAX_VALUE : cursor;
+                long cursorNanos = time(round -> jdbcTemplate.queryForList(KEYSET_PAGE,
+                        PLAYER, first - round % 2 * PLAYER_SHARE, PAGE_SIZE));
+                long serviceNanos = time(round -> service.getHistory(PLAYER,
+                        cursor == null ? null : cursor - round % 2 * PLAYER_SHARE, PAGE_SIZE, null, null));
+                System.out.printf("%8d %14.1f %14.1f %14.1f%n", page, offsetNanos / 1000.0, cursorNanos / 1000.0,
+                        serviceNanos / 1000.0);
+            }
+
+            CountingOutputStream output = new CountingOutputStream();
+            long start = System.nanoTime();
+            long exported = service.export(PLAYER, null, null, output);
+            long exportNanos = System.nanoTime() - start;
+            System.out.printf("export %,d games, %,d bytes in %d ms (%.0f games/s)%n", exported, output.count,
+                    exportNanos / 1_000_000, exported * 1e9 / exportNanos);
+        }
+    }
+
+    private static Long cursorOf(GameHistoryService service, int page) {
+        if (page == 1) {
+            return null;
+        }
+        // the cursor of a page is the id of the last game of the page before
+        GameHistoryPageResponse previous = service.getHistory(PLAYER, null, 1, null, null);
+        long newest = previous.getGames().get(0).getGameId();
+        return newest - (long) (page - 1) * PAGE_SIZE * PLAYER_SHARE + 1;
+    }
+
+    // consecutive rounds shift the page by one game, otherwise H2 serves the previous result again
+    private static long time(IntConsumer query) {
+        for (int i = 0; i < ROUNDS; i++) {
+            query.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            query.accept(i);
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+
+    private static void insertGames(JdbcTemplate jdbcTemplate) {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            String player = i % PLAYER_SHARE == 0 ? PLAYER : "player" + i % 10_000;
+            batch.add(new Object[]{"apple", "_____", 6, 2, player, "EASY", "en", "", 0, 0});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(INSERT_GAME, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.config.AnalyticsProperties;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.service.GuessAnalyticsService;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the cost of recording a guess in {@link GuessAnalyticsService} with an
+ * increasing number of threads hammering the same counters, to compare against the
+ * cost of a guess request.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.GuessAnalyticsBenchmark}.
+ * </p>
+ */
+public class GuessAnalyticsBenchmark {
+
+    private static final int GUESSES_PER_THREAD = 2_000_000;
+    private static final String[] WORDS = {"apple", "laptop", "chameleon", "galaxy", "robot"};
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        GuessAnalyticsService service = new GuessAnalyticsService(new AnalyticsProperties());
+
+        // warm up
+        run(service, maxThreads);
+
+        System.out.printf("%8s %12s %10s%n", "threads", "guesses/s", "ns/guess");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long nanos = run(service, threads);
+            long total = (long) threads * GUESSES_PER_THREAD;
+            System.out.printf("%8d %12d %10.1f%n", threads, total * 1_000_000_000L / nanos,
+                    (double) nanos * threads / total);
+        }
+    }
+
+    private static long run(GuessAnalyticsService service, int threads) throws InterruptedException {
+        Game[] games = new Game[WORDS.length];
+        for (int i = 0; i < WORDS.length; i++) {
+            games[i] = Game.builder()
+                    .word(WORDS[i])
+                    .difficulty(Difficulty.values()[i % Difficulty.values().length])
+                    .status(GameStatus.IN_PROGRESS)
+                    .remainingAttempts(6)
+                    .build();
+        }
+        String[] letters = new String[26];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = String.valueOf((char) ('a' + i));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < GUESSES_PER_THREAD; i++) {
+                    service.record(games[random.nextInt(games.length)], letters[random.nextInt(letters.length)],
+                            random.nextBoolean(), false);
+                }
+                done.countDown();
+            }).start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,138 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.CodeWordsApplication;
+import com.cctalents.code_words.dto.CreateGameRequest;
+import com.cctalents.code_words.dto.GameRequest;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.service.GameService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Compares the statements issued and the throughput of persisting a guess the way it used to
+ * be done ({@code findById} followed by {@code save} on the detached game) with the single
+ * version-guarded update used by {@link GameService#guess}, against the in-memory H2 database.
+ * Both paths are reduced to their persistence calls; the full service path is measured as well.
+ * Every guess is a miss, so each one changes the game.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.GuessPersistenceBenchmark}.
+ * </p>
+ */
+public class GuessPersistenceBenchmark {
+
+    private static final int GAMES = 2_000;
+    // stays below the allowed attempts so that every game is still in progress
+    private static final int MISSES_PER_GAME = 5;
+    private static final int RUNS = 5;
+    private static final String COUNT_STATEMENTS = "SELECT COALESCE(SUM(EXECUTION_COUNT), 0) "
+            + "FROM INFORMATION_SCHEMA.QUERY_STATISTICS "
+            + "WHERE SQL_STATEMENT NOT LIKE '%QUERY_STATISTICS%' AND SQL_STATEMENT <> 'COMMIT'";
+    private static final String COUNT_COMMITS = "SELECT COALESCE(SUM(EXECUTION_COUNT), 0) "
+            + "FROM INFORMATION_SCHEMA.QUERY_STATISTICS WHERE SQL_STATEMENT = 'COMMIT'";
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeWordsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            GameService service = context.getBean(GameService.class);
+            GameRepository repository = context.getBean(GameRepository.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            // counted by the database, so that JPA and plain JDBC statements are both included
+            jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+            LongSupplier statements = () -> jdbcTemplate.queryForObject(COUNT_STATEMENTS, Long.class);
+            LongSupplier commits = () -> jdbcTemplate.queryForObject(COUNT_COMMITS, Long.class);
+
+            BiConsumer<Game, String> legacy = (game, letter) -> legacyGuess(repository, game.getId(), letter);
+            BiConsumer<Game, String> versioned = (game, letter) -> versionedGuess(repository, game.getId(), letter);
+            BiConsumer<Game, String> full = (game, letter) -> service.guess(game.getId(), request(letter));
+
+            Map<String, BiConsumer<Game, String>> paths = new LinkedHashMap<>();
+            paths.put("findById + save", legacy);
+            paths.put("versioned update", versioned);
+            paths.put("GameService.guess", full);
+
+            // alternate the paths so that they see the same JIT and table state, keep the best run
+            Map<String, double[]> best = new LinkedHashMap<>();
+            for (int run = 0; run < RUNS; run++) {
+                paths.forEach((path, guess) -> {
+                    double[] result = run(service, statements, commits, guess);
+                    best.merge(path, result, (a, b) -> a[2] >= b[2] ? a : b);
+                });
+            }
+
+            System.out.printf("%-18s %16s %13s %12s%n", "path", "statements/guess", "commits/guess", "guesses/s");
+            best.forEach(GuessPersistenceBenchmark::print);
+        }
+    }
+
+    private static void print(String path, double[] result) {
+        System.out.printf("%-18s %16.2f %13.2f %12.0f%n", path, result[0], result[1], result[2]);
+    }
+
+    private static double[] run(GameService service, LongSupplier statements, LongSupplier commits,
+                                BiConsumer<Game, String> guess) {
+        List<Game> games = new ArrayList<>(GAMES);
+        for (int i = 0; i < GAMES; i++) {
+            games.add(service.createGame(CreateGameRequest.builder().difficulty("EASY").build()));
+        }
+
+        long statementsBefore = statements.getAsLong();
+        long commitsBefore = commits.getAsLong();
+        long start = System.nanoTime();
+        for (int miss = 0; miss < MISSES_PER_GAME; miss++) {
+            for (Game game : games) {
+                guess.accept(game, missingLetter(game.getWord(), miss));
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        long executed = statements.getAsLong() - statementsBefore;
+        long committed = commits.getAsLong() - commitsBefore;
+        long guesses = (long) GAMES * MISSES_PER_GAME;
+        return new double[]{(double) executed / guesses, (double) committed / guesses,
+                guesses * 1_000_000_000.0 / nanos};
+    }
+
+    /**
+     * The guess path before the versioned update, reduced to its persistence calls.
+     */
+    private static void legacyGuess(GameRepository repository, Long id, String letter) {
+        Game game = repository.findById(id).orElseThrow();
+        game.setStatus(GameStatus.IN_PROGRESS);
+        game.setRemainingAttempts(game.getRemainingAttempts() - 1);
+        game.setMissedLetters(game.getMissedLetters() + letter);
+        repository.save(game);
+    }
+
+    private static void versionedGuess(GameRepository repository, Long id, String letter) {
+        Game game = repository.findById(id).orElseThrow();
+        repository.updateState(id, game.getVersion(), game.getMaskedWord(), game.getRemainingAttempts() - 1,
+                GameStatus.IN_PROGRESS, game.getMissedLetters() + letter);
+    }
+
+    private static String missingLetter(String word, int index) {
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            if (word.indexOf(letter) < 0 && index-- == 0) {
+                return String.valueOf(letter);
+            }
+        }
+        throw new IllegalArgumentException(word);
+    }
+
+    private static GameRequest request(String letter) {
+        GameRequest request = new GameRequest();
+        request.setGuess(letter);
+        return request;
+    }
+}
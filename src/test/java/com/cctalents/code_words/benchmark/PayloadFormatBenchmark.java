@@ -0,0 +1,82 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.dto.GameResponse;
+import com.cctalents.code_words.dto.LeaderBoardResponse;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares payload sizes and serialization cost of JSON against CBOR for the game API
+ * responses, using the same views as the endpoints.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.PayloadFormatBenchmark}.
+ * </p>
+ */
+public class PayloadFormatBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        // Spring configures its mappers without default view inclusion
+        ObjectMapper json = JsonMapper.builder().disable(MapperFeature.DEFAULT_VIEW_INCLUSION).build();
+        ObjectMapper cbor = CBORMapper.builder().disable(MapperFeature.DEFAULT_VIEW_INCLUSION).build();
+
+        GameResponse guess = GameResponse.builder()
+                .gameId(12345L)
+                .maskedWord("m_cr_sc__e")
+                .remainingAttempts(4)
+                .status(GameStatus.IN_PROGRESS)
+                .build();
+        List<LeaderBoardResponse> leaderboards = leaderboards();
+
+        System.out.printf("%-14s %-6s %8s %10s%n", "payload", "format", "bytes", "ns/op");
+        compare("guess", guess, GameResponse.GuessView.class, json, cbor);
+        compare("leaderboards", leaderboards, LeaderBoardResponse.LeaderBoardsView.class, json, cbor);
+    }
+
+    private static void compare(String name, Object payload, Class<?> view,
+                                ObjectMapper json, ObjectMapper cbor) throws Exception {
+        report(name, "json", payload, json.writerWithView(view));
+        report(name, "cbor", payload, cbor.writerWithView(view));
+    }
+
+    private static void report(String name, String format, Object payload, ObjectWriter writer) throws Exception {
+        int size = writer.writeValueAsBytes(payload).length;
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += writer.writeValueAsBytes(payload).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += writer.writeValueAsBytes(payload).length;
+        }
+        long nanosPerOp = (System.nanoTime() - start) / ITERATIONS;
+
+        System.out.printf("%-14s %-6s %8d %10d%s%n", name, format, size, nanosPerOp, sink == 0 ? "!" : "");
+    }
+
+    private static List<LeaderBoardResponse> leaderboards() {
+        String[] words = {"apple", "laptop", "chameleon"};
+        List<LeaderBoardResponse> result = new ArrayList<>();
+        for (Difficulty difficulty : Difficulty.values()) {
+            for (int rank = 0; rank < 5; rank++) {
+                LeaderBoardResponse entry = new LeaderBoardResponse("Player" + rank, difficulty);
+                entry.setMaskedWord(words[difficulty.ordinal()]);
+                entry.setRemainingAttempts(6 - rank);
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.CodeWordsApplication;
+import com.cctalents.code_words.service.GameSnapshotService;
+import com.cctalents.code_words.snapshot.SnapshotReader;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures taking a snapshot of 1M games and restoring it into the empty in-memory
+ * database, separating the time spent decoding the mapped file from the inserts.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.SnapshotRestoreBenchmark}.
+ * </p>
+ */
+public class SnapshotRestoreBenchmark {
+
+    private static final int GAMES = 1_000_000;
+    private static final String[] WORDS = {"apple", "laptop", "chameleon", "galaxy", "murciélago"};
+    private static final String INSERT_GAME = "INSERT INTO games (word, masked_word, remaining_attempts, status, "
+            + "player, difficulty, locale, missed_letters, hints_used, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("snapshot-benchmark");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeWordsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--game.snapshot.directory=" + directory,
+                        "--game.snapshot.interval-ms=3600000",
+                        "--game.snapshot.tables=games")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            GameSnapshotService service = context.getBean(GameSnapshotService.class);
+            insertGames(jdbcTemplate);
+
+            long start = System.nanoTime();
+            service.snapshot();
+            long snapshotNanos = System.nanoTime() - start;
+            Path file = service.listSnapshots().get(0);
+
+            start = System.nanoTime();
+            long decoded = decode(file);
+            long decodeNanos = System.nanoTime() - start;
+
+            jdbcTemplate.execute("TRUNCATE TABLE games");
+            start = System.nanoTime();
+            long restored = service.restore(file);
+            long restoreNanos = System.nanoTime() - start;
+
+            System.out.printf("games              %,12d%n", GAMES);
+            System.out.printf("snapshot size      %,12d bytes (%.1f per game)%n",
+                    Files.size(file), (double) Files.size(file) / GAMES);
+            System.out.printf("snapshot           %,12d ms%n", snapshotNanos / 1_000_000);
+            System.out.printf("decode (mmap)      %,12d ms for %,d rows%n", decodeNanos / 1_000_000, decoded);
+            System.out.printf("restore            %,12d ms for %,d rows (%,d rows/s)%n", restoreNanos / 1_000_000,
+                    restored, restored * 1_000_000_000L / restoreNanos);
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private static void insertGames(JdbcTemplate jdbcTemplate) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < GAMES; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            batch.add(new Object[]{word, "_".repeat(word.length()), random.nextInt(7), random.nextInt(3),
+                    "player-" + random.nextInt(100_000), "EASY", "en", "xz", random.nextInt(3), 1L});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(INSERT_GAME, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static long decode(Path file) throws IOException {
+        long rows = 0;
+        try (SnapshotReader reader = new SnapshotReader(file)) {
+            while (reader.nextTable()) {
+                Object[] values = new Object[reader.getColumns().size()];
+                while (reader.nextRow(values)) {
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,84 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.CodeWordsApplication;
+import com.cctalents.code_words.config.DictionaryProperties;
+import com.cctalents.code_words.dictionary.WordListReader;
+import com.cctalents.code_words.dto.WordImportResponse;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.service.WordImportService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures importing a generated list of 200k words with several batch sizes, from one
+ * commit per word up to the default batch size.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.WordImportBenchmark}.
+ * </p>
+ */
+public class WordImportBenchmark {
+
+    private static final int WORDS = 200_000;
+    private static final int[] BATCH_SIZES = {1, 100, 1000, 10_000};
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("word-import-benchmark");
+        Path file = directory.resolve("words.csv");
+        writeWords(file);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeWordsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--game.snapshot.directory=" + directory,
+                        "--game.snapshot.restore-on-startup=false",
+                        "--game.snapshot.interval-ms=3600000")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            DictionaryProperties properties = context.getBean(DictionaryProperties.class);
+            WordImportService service = context.getBean(WordImportService.class);
+
+            System.out.printf("%10s %10s %10s %12s%n", "batch", "words", "ms", "words/s");
+            for (int batchSize : BATCH_SIZES) {
+                jdbcTemplate.update("DELETE FROM words WHERE locale = 'xx'");
+                properties.setImportBatchSize(batchSize);
+                WordImportResponse report;
+                try (InputStream input = Files.newInputStream(file)) {
+                    report = service.importWords(input, WordListReader.Format.CSV, "xx", file.toString());
+                }
+                System.out.printf("%10d %10d %10d %12.0f%n", batchSize, report.getInserted(),
+                        report.getElapsedMillis(), report.getWordsPerSecond());
+            }
+        }
+    }
+
+    private static void writeWords(Path file) throws IOException {
+        Difficulty[] difficulties = Difficulty.values();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("name,difficulty\n");
+            for (int i = 0; i < WORDS; i++) {
+                writer.write(name(i));
+                writer.write(',');
+                writer.write(difficulties[i % difficulties.length].name());
+                writer.write('\n');
+            }
+        }
+    }
+
+    // base 26 spelled with letters, so every index is a distinct valid word
+    private static String name(int index) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+        return name.append("word").toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.solver.WordIndex;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures hint latency of the {@link WordIndex} over a large generated dictionary.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.WordIndexBenchmark}.
+ * </p>
+ */
+public class WordIndexBenchmark {
+
+    private static final int WORDS = 300_000;
+    private static final int QUERIES = 20_000;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Set<String> words = new HashSet<>();
+        while (words.size() < WORDS) {
+            words.add(randomWord(random, 4 + random.nextInt(9)));
+        }
+        List<String> dictionary = List.copyOf(words);
+
+        long buildStart = System.nanoTime();
+        WordIndex index = WordIndex.build(dictionary);
+        System.out.printf("built index over %d words in %d ms%n", index.size(),
+                (System.nanoTime() - buildStart) / 1_000_000);
+
+        String[][] queries = new String[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = partiallyGuessed(random, dictionary.get(random.nextInt(dictionary.size())));
+        }
+
+        long sink = 0;
+        for (String[] query : queries) {
+            sink += index.suggest(query[0], query[1]).candidates();
+        }
+        long start = System.nanoTime();
+        for (String[] query : queries) {
+            sink += index.suggest(query[0], query[1]).candidates();
+        }
+        long nanos = (System.nanoTime() - start) / QUERIES;
+        System.out.printf("%d ns per hint (%d candidates seen)%n", nanos, sink);
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    // reveals one random letter of the word and misses two letters it does not contain
+    private static String[] partiallyGuessed(Random random, String word) {
+        char revealed = word.charAt(random.nextInt(word.length()));
+        StringBuilder masked = new StringBuilder();
+        for (char c : word.toCharArray()) {
+            masked.append(c == revealed ? c : WordIndex.MASK);
+        }
+        StringBuilder missed = new StringBuilder();
+        while (missed.length() < 2) {
+            char letter = (char) ('a' + random.nextInt(26));
+            if (word.indexOf(letter) < 0 && missed.indexOf(String.valueOf(letter)) < 0) {
+                missed.append(letter);
+            }
+        }
+        return new String[]{masked.toString(), missed.toString()};
+    }
+}
@@ -0,0 +1,75 @@
+package com.cctalents.code_words.benchmark;
+
+import com.cctalents.code_words.dictionary.AliasTable;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares drawing a word index out of 100k words: uniformly with a new {@link Random} per
+ * draw as before, by weight with a binary search over cumulative weights, and by weight with
+ * an {@link AliasTable} and the thread's {@link ThreadLocalRandom}. Prints the time and the
+ * bytes allocated per draw.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.cctalents.code_words.benchmark.WordSelectionBenchmark}.
+ * </p>
+ */
+public class WordSelectionBenchmark {
+
+    private static final int WORDS = 100_000;
+    private static final int DRAWS = 20_000_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        double[] weights = new double[WORDS];
+        Random weightRandom = new Random(42);
+        for (int i = 0; i < WORDS; i++) {
+            // mostly default weights, a few promoted and a few demoted words
+            weights[i] = switch (weightRandom.nextInt(20)) {
+                case 0 -> 10;
+                case 1 -> 0.1;
+                default -> 1;
+            };
+        }
+
+        long start = System.nanoTime();
+        AliasTable table = AliasTable.build(weights);
+        System.out.printf("built alias table over %d words in %.1f ms%n", WORDS, (System.nanoTime() - start) / 1e6);
+
+        double[] cumulative = new double[WORDS];
+        double total = 0;
+        for (int i = 0; i < WORDS; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        double sum = total;
+
+        System.out.printf("%-28s %10s %14s%n", "strategy", "ns/draw", "bytes/draw");
+        for (int round = 0; round < ROUNDS; round++) {
+            run("uniform, new Random", () -> new Random().nextInt(WORDS));
+            run("cumulative binary search", () -> {
+                int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble() * sum);
+                return index < 0 ? -index - 1 : index;
+            });
+            run("alias table", () -> table.sample(ThreadLocalRandom.current()));
+        }
+    }
+
+    private static void run(String name, IntSupplier draw) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long sink = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < DRAWS; i++) {
+            sink += draw.getAsInt();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-28s %10.1f %14.2f   (%d)%n", name, (double) nanos / DRAWS, (double) allocated / DRAWS, sink % 10);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.service.IdempotencyService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GameControllerTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+
+    @Test
+    @DisplayName("Should return CBOR with the unspaced masked word when it is accepted")
+    void testCreateGame_NegotiatesCbor() throws Exception {
+        byte[] body = mockMvc.perform(post("/game")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(CBOR)
+                        .content("{\"difficulty\":\"HARD\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode game = cbor.readTree(body);
+        assertTrue(game.get("gameId").isNumber());
+        assertTrue(game.get("maskedWord").asText().matches("_+"));
+        assertTrue(game.has("remainingAttempts"));
+    }
+
+    @Test
+    @DisplayName("Should space the masked word in JSON and apply the same views under CBOR")
+    void testGetGame_AppliesViewsInBothFormats() throws Exception {
+        long gameId = json.readTree(mockMvc.perform(post("/game")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"difficulty\":\"EASY\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("gameId").asLong();
+
+        JsonNode asJson = json.readTree(mockMvc.perform(get("/game/{id}", gameId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode asCbor = cbor.readTree(mockMvc.perform(get("/game/{id}", gameId).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray());
+
+        String masked = asCbor.get("maskedWord").asText();
+        assertEquals(String.join(" ", masked.split("")), asJson.get("maskedWord").asText());
+        // the game state view leaves out the id in either format
+        assertFalse(asJson.has("gameId"));
+        assertFalse(asCbor.has("gameId"));
+        assertEquals(asJson.has("status"), asCbor.has("status"));
+        assertEquals(asJson.get("remainingAttempts"), asCbor.get("remainingAttempts"));
+    }
+
+    @Test
+    @DisplayName("Should replay the response of the first request carrying the same idempotency key")
+    void testGuessWord_ReplaysIdempotentRetry() throws Exception {
+        String createKey = UUID.randomUUID().toString();
+        String created = createGame(createKey, "{\"difficulty\":\"EASY\"}");
+        assertEquals(created, createGame(createKey, "{\"difficulty\":\"EASY\"}"));
+        long gameId = json.readTree(created).get("gameId").asLong();
+
+        String guessKey = UUID.randomUUID().toString();
+        String guessed = guess(gameId, guessKey, "{\"guess\":\"q\"}");
+        assertEquals(guessed, guess(gameId, guessKey, "{\"guess\":\"q\"}"));
+
+        // the retry did not spend another attempt
+        assertEquals(json.readTree(guessed).get("remainingAttempts").asInt(),
+                gameRepository.findById(gameId).orElseThrow().getRemainingAttempts());
+    }
+
+    @Test
+    @DisplayName("Should reject blank and over-long idempotency keys")
+    void testCreateGame_InvalidIdempotencyKey() throws Exception {
+        for (String key : new String[]{"   ", "k".repeat(256)}) {
+            mockMvc.perform(post("/game")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(IdempotencyService.HEADER, key)
+                            .content("{\"difficulty\":\"EASY\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an idempotency key reused for a different request")
+    void testCreateGame_ReusedIdempotencyKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        createGame(key, "{\"difficulty\":\"EASY\"}");
+
+        mockMvc.perform(post("/game")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IdempotencyService.HEADER, key)
+                        .content("{\"difficulty\":\"HARD\"}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private String createGame(String idempotencyKey, String body) throws Exception {
+        return mockMvc.perform(post("/game")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IdempotencyService.HEADER, idempotencyKey)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String guess(long gameId, String idempotencyKey, String body) throws Exception {
+        return mockMvc.perform(post("/game/{id}/guess", gameId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IdempotencyService.HEADER, idempotencyKey)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,170 @@
+package com.cctalents.code_words.controller;
+
+import com.cctalents.code_words.config.WebSocketProperties;
+import com.cctalents.code_words.dto.GameRequest;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.ConcurrentGuessException;
+import com.cctalents.code_words.exception.GameAlreadyFinishedException;
+import com.cctalents.code_words.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameWebSocketHandlerTest {
+
+    private static final long GAME_ID = 7L;
+
+    private GameService service;
+    private WebSocketProperties properties;
+    private GameWebSocketHandler handler;
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = mock(GameService.class);
+        properties = new WebSocketProperties();
+        properties.setMaxFrameSize(64);
+        properties.setSendTimeLimitMs(5000);
+        properties.setSendBufferSizeLimit(4096);
+        properties.setIdleTimeoutMs(60000);
+        handler = new GameWebSocketHandler(service, properties);
+
+        // what the handshake leaves in the session attributes
+        attributes.put("gameId", GAME_ID);
+        attributes.put("game", game("_____", 6, GameStatus.IN_PROGRESS));
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            sent.add(((TextMessage) invocation.getArgument(0)).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("Should sync on connect, send deltas for guesses and close once the game is over")
+    void testSession_Lifecycle() throws Exception {
+        when(service.guess(eq(GAME_ID), any(GameRequest.class)))
+                .thenReturn(game("a____", 6, GameStatus.IN_PROGRESS))
+                .thenReturn(game("apple", 6, GameStatus.WON));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleMessage(session, new TextMessage("a"));
+        handler.handleMessage(session, new TextMessage("apple"));
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        handler.handleMessage(session, new TextMessage("x"));
+
+        assertEquals(List.of("S|P|6|_____", "D|P|6|0", "D|W|6|1,2,3,4"), sent);
+        verify(session).setTextMessageSizeLimit(64);
+        verify(session).close(CloseStatus.NORMAL);
+        // the game loaded during the handshake is not kept for the whole session
+        assertFalse(attributes.containsKey("game"));
+        verify(service, times(2)).guess(eq(GAME_ID), any(GameRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should answer rejected guesses with an error frame and keep the session open")
+    void testHandleTextMessage_RejectedGuesses() throws Exception {
+        when(service.guess(eq(GAME_ID), any(GameRequest.class)))
+                .thenThrow(new ConcurrentGuessException(GAME_ID))
+                .thenThrow(new GameAlreadyFinishedException());
+
+        handler.afterConnectionEstablished(session);
+        handler.handleMessage(session, new TextMessage("e"));
+        handler.handleMessage(session, new TextMessage("e"));
+        handler.handleMessage(session, new TextMessage(""));
+
+        assertEquals(4, sent.size());
+        assertEquals("E|" + new ConcurrentGuessException(GAME_ID).getMessage(), sent.get(1));
+        assertEquals("E|" + new GameAlreadyFinishedException().getMessage(), sent.get(2));
+        assertEquals("E|Guess must not be empty", sent.get(3));
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("Should include letters revealed over REST in the next delta")
+    void testHandleTextMessage_GameChangedOverRest() throws Exception {
+        // "a" was guessed over REST after connecting, then "l" arrives over the socket
+        when(service.guess(eq(GAME_ID), any(GameRequest.class)))
+                .thenReturn(game("a__l_", 6, GameStatus.IN_PROGRESS));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleMessage(session, new TextMessage("l"));
+
+        assertEquals("D|P|6|0,3", sent.get(1));
+        assertEquals("a__l_", attributes.get("maskedWord"));
+    }
+
+    @Test
+    @DisplayName("Should give up on a session whose sends exceed the buffer")
+    void testHandleTextMessage_SendBufferOverflow() throws Exception {
+        properties.setSendBufferSizeLimit(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            sent.add(((TextMessage) message).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+        when(service.guess(eq(GAME_ID), any(GameRequest.class)))
+                .thenReturn(game("a____", 6, GameStatus.IN_PROGRESS));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the client stops reading while the first frame is being sent
+            Future<?> connecting = executor.submit(() -> {
+                handler.afterConnectionEstablished(session);
+                return null;
+            });
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            // the container closes the session when the handler fails
+            SessionLimitExceededException e = assertThrows(SessionLimitExceededException.class,
+                    () -> handler.handleMessage(session, new TextMessage("a")));
+            assertEquals(CloseStatus.SESSION_NOT_RELIABLE, e.getStatus());
+
+            release.countDown();
+            connecting.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of("S|P|6|_____"), sent);
+    }
+
+    private Game game(String maskedWord, int remainingAttempts, GameStatus status) {
+        return Game.builder()
+                .id(GAME_ID)
+                .maskedWord(maskedWord)
+                .remainingAttempts(remainingAttempts)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.cctalents.code_words.dictionary;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.projection.WordEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+
+    @Test
+    @DisplayName("Should give every index a probability proportional to its weight")
+    void testBuild_ProbabilitiesMatchWeights() {
+        double[] weights = {1, 0, 3, 0.5, 5.5};
+        AliasTable table = AliasTable.build(weights);
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10, table.probability(i), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Should draw indexes with frequencies close to their weights and never draw zero weights")
+    void testSample_FollowsWeights() {
+        AliasTable table = AliasTable.build(new double[]{1, 0, 2, 7});
+        SplittableRandom random = new SplittableRandom(42);
+        int[] draws = new int[4];
+
+        for (int i = 0; i < 1_000_000; i++) {
+            draws[table.sample(random)]++;
+        }
+
+        assertEquals(100_000, draws[0], 2_000);
+        assertEquals(0, draws[1]);
+        assertEquals(200_000, draws[2], 2_000);
+        assertEquals(700_000, draws[3], 2_000);
+    }
+
+    @Test
+    @DisplayName("Should draw uniformly when every weight is zero and reject invalid weights")
+    void testBuild_ZeroAndInvalidWeights() {
+        AliasTable table = AliasTable.build(new double[]{0, 0, 0, 0});
+        assertEquals(0.25, table.probability(3), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{Double.POSITIVE_INFINITY}));
+    }
+
+    @Test
+    @DisplayName("Should draw the words of a difficulty by weight from a dictionary")
+    void testDictionary_SampleByWeight() {
+        Dictionary dictionary = Dictionary.build("en", List.of(
+                new WordEntry("pumpkin", Difficulty.EASY, 9),
+                new WordEntry("apple", Difficulty.EASY, 1),
+                new WordEntry("snow", Difficulty.EASY, 0),
+                new WordEntry("chameleon", Difficulty.HARD, 1)));
+        SplittableRandom random = new SplittableRandom(7);
+        Map<String, Integer> draws = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            draws.merge(dictionary.sample(Difficulty.EASY, random), 1, Integer::sum);
+        }
+
+        assertEquals(9_000, draws.get("pumpkin"), 300);
+        assertEquals(1_000, draws.get("apple"), 300);
+        assertNull(draws.get("snow"));
+        assertEquals("chameleon", dictionary.sample(Difficulty.HARD, random));
+        assertEquals(3, dictionary.count(Difficulty.EASY));
+    }
+}
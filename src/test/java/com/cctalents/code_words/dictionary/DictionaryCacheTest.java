@@ -0,0 +1,170 @@
+package com.cctalents.code_words.dictionary;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.exception.UnsupportedLocaleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryCacheTest {
+
+    private static final Map<String, List<String>> WORDS = Map.of(
+            "en", List.of("apple", "cat", "sun"),
+            "de", List.of("bär", "käse"),
+            "fr", List.of("été", "île", "forêt", "école"));
+
+    @Test
+    @DisplayName("Should evict the least recently used dictionaries once the word bound is exceeded")
+    void testGet_EvictsLeastRecentlyUsed() {
+        DictionaryCache cache = new DictionaryCache(6, DictionaryCacheTest::load);
+
+        cache.get("en");
+        cache.get("de");
+        // en is now the most recently used
+        cache.get("en");
+        cache.get("fr");
+
+        DictionaryCache.DictionaryCacheStats stats = cache.stats();
+        assertEquals(List.of("fr"), List.copyOf(stats.locales().keySet()));
+        assertEquals(4, stats.words());
+        assertEquals(2, stats.evictions());
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(3, stats.loads());
+
+        cache.get("de");
+        assertEquals(List.of("fr", "de"), List.copyOf(cache.stats().locales().keySet()));
+    }
+
+    @Test
+    @DisplayName("Should load a locale once for concurrent requests")
+    void testGet_CoalescesConcurrentLoads() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        DictionaryCache cache = new DictionaryCache(100, locale -> {
+            loads.incrementAndGet();
+            try {
+                loading.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(locale);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Dictionary>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get("fr")));
+            }
+            Thread.sleep(100);
+            loading.countDown();
+            for (Future<Dictionary> result : results) {
+                assertEquals(4, result.get(5, TimeUnit.SECONDS).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should not cache a locale that failed to load")
+    void testGet_FailedLoadIsRetried() {
+        DictionaryCache cache = new DictionaryCache(100, DictionaryCacheTest::load);
+
+        assertThrows(UnsupportedLocaleException.class, () -> cache.get("xx"));
+        assertThrows(UnsupportedLocaleException.class, () -> cache.get("xx"));
+
+        assertEquals(2, cache.stats().misses());
+        assertTrue(cache.stats().locales().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous dictionary until its reload is swapped in")
+    void testReload_SwapsLoadedDictionary() throws Exception {
+        Map<String, List<String>> words = new ConcurrentHashMap<>(WORDS);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        DictionaryCache cache = new DictionaryCache(100, locale -> {
+            if (loads.incrementAndGet() > 1) {
+                reloading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Dictionary.build(locale, Map.of(Difficulty.EASY, words.get(locale)));
+        });
+        Dictionary previous = cache.get("en");
+        words.put("en", List.of("apple", "cat", "sun", "moon"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> reloaded = executor.submit(() -> cache.reload("en"));
+            assertTrue(reloading.await(5, TimeUnit.SECONDS));
+            assertSame(previous, cache.get("en"));
+
+            release.countDown();
+            assertTrue(reloaded.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(4, cache.get("en").size());
+        assertEquals(4, cache.stats().words());
+        assertFalse(cache.reload("de"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous dictionary when its reload fails")
+    void testReload_FailedReloadKeepsPrevious() {
+        AtomicInteger loads = new AtomicInteger();
+        DictionaryCache cache = new DictionaryCache(100, locale -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return load(locale);
+        });
+        Dictionary previous = cache.get("en");
+
+        assertThrows(IllegalStateException.class, () -> cache.reload("en"));
+
+        assertSame(previous, cache.get("en"));
+        assertEquals(3, cache.stats().words());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should pack the words of each difficulty and normalize locales")
+    void testDictionary_BuildAndNormalize() {
+        Dictionary dictionary = Dictionary.build("fr", Map.of(
+                Difficulty.EASY, List.of("été", "île"),
+                Difficulty.HARD, List.of("bibliothèque")));
+
+        assertEquals(3, dictionary.size());
+        assertEquals(2, dictionary.count(Difficulty.EASY));
+        assertEquals(0, dictionary.count(Difficulty.MEDIUM));
+        assertEquals("île", dictionary.word(Difficulty.EASY, 1));
+        assertEquals("bibliothèque", dictionary.word(Difficulty.HARD, 0));
+        assertEquals('é', dictionary.getIndex().suggest("_t_", "").letter());
+        assertEquals("pt-BR", Dictionary.normalize(" pt_br "));
+        assertEquals("de", Dictionary.normalize("DE"));
+    }
+
+    private static Dictionary load(String locale) {
+        List<String> words = WORDS.get(locale);
+        if (words == null) {
+            throw new UnsupportedLocaleException(locale);
+        }
+        return Dictionary.build(locale, Map.of(Difficulty.EASY, words));
+    }
+}
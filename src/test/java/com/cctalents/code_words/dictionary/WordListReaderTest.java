@@ -0,0 +1,68 @@
+package com.cctalents.code_words.dictionary;
+
+import com.cctalents.code_words.exception.InvalidWordImportException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordListReaderTest {
+
+    @Test
+    @DisplayName("Should read CSV columns in header order and skip blank lines")
+    void testNext_Csv() throws IOException {
+        List<WordListReader.Row> rows = read(WordListReader.Format.CSV,
+                "difficulty,name\nEASY,été\n\nHARD\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(new WordListReader.Row(2, "été", "EASY", null, null), rows.get(0));
+        assertEquals(4, rows.get(1).line());
+        assertEquals("expected 2 columns but got 1", rows.get(1).error());
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV list whose header lacks a required column")
+    void testNext_CsvWithoutHeader() {
+        assertThrows(InvalidWordImportException.class,
+                () -> read(WordListReader.Format.CSV, "apple,EASY,en\n"));
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON objects and report malformed lines")
+    void testNext_Ndjson() throws IOException {
+        List<WordListReader.Row> rows = read(WordListReader.Format.NDJSON,
+                "{\"name\":\"käse\",\"difficulty\":\"MEDIUM\",\"locale\":\"de\"}\n{\"name\":\n[1]\n");
+
+        assertEquals(3, rows.size());
+        assertEquals(new WordListReader.Row(1, "käse", "MEDIUM", "de", null), rows.get(0));
+        assertTrue(rows.get(1).error().startsWith("malformed JSON"));
+        assertEquals("expected a JSON object", rows.get(2).error());
+    }
+
+    @Test
+    @DisplayName("Should guess the format from file names and media subtypes")
+    void testFormat_Of() {
+        assertEquals(WordListReader.Format.NDJSON, WordListReader.Format.of("words.ndjson"));
+        assertEquals(WordListReader.Format.NDJSON, WordListReader.Format.of("x-ndjson"));
+        assertEquals(WordListReader.Format.NDJSON, WordListReader.Format.of("WORDS.JSONL"));
+        assertEquals(WordListReader.Format.CSV, WordListReader.Format.of("csv"));
+    }
+
+    private static List<WordListReader.Row> read(WordListReader.Format format, String content) throws IOException {
+        List<WordListReader.Row> rows = new ArrayList<>();
+        try (WordListReader reader = new WordListReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper().reader())) {
+            for (WordListReader.Row row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,148 @@
+package com.cctalents.code_words.idempotency;
+
+import com.cctalents.code_words.exception.ConcurrentGuessException;
+import com.cctalents.code_words.exception.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should replay the first result for a repeated key without running the operation again")
+    void testExecute_ReplaysResult() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 100, now::get);
+
+        assertEquals("game-1", cache.execute("key", "create", this::run));
+        assertEquals("game-1", cache.execute("key", "create", this::run));
+        assertEquals("game-2", cache.execute("other", "create", this::run));
+
+        assertEquals(2, runs.get());
+        assertThrows(IdempotencyKeyMismatchException.class, () -> cache.execute("key", "guess", this::run));
+    }
+
+    @Test
+    @DisplayName("Should run the operation again after it failed")
+    void testExecute_DoesNotKeepFailures() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 100, now::get);
+
+        assertThrows(ConcurrentGuessException.class, () -> cache.execute("key", "guess", () -> {
+            runs.incrementAndGet();
+            throw new ConcurrentGuessException(1L);
+        }));
+        assertEquals("game-2", cache.execute("key", "guess", this::run));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should run the operation again once its result expired")
+    void testExecute_ExpiresResults() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 100, now::get);
+
+        cache.execute("key", "create", this::run);
+        now.set(99);
+        assertEquals("game-1", cache.execute("key", "create", this::run));
+        now.set(100);
+        assertEquals("game-2", cache.execute("key", "create", this::run));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest keys beyond the bound")
+    void testExecute_EvictsOldestKeys() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(2, 100, now::get);
+
+        cache.execute("a", "create", this::run);
+        cache.execute("b", "create", this::run);
+        cache.execute("c", "create", this::run);
+
+        assertEquals(2, cache.size());
+        assertEquals("game-3", cache.execute("c", "create", this::run));
+        assertEquals("game-4", cache.execute("a", "create", this::run));
+    }
+
+    @Test
+    @DisplayName("Should never evict a key whose operation is still running")
+    void testExecute_KeepsRunningKeys() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(1, 100, now::get);
+
+        String result = cache.execute("slow", "guess", () -> {
+            // completed keys beyond the bound are evicted while this one is running
+            cache.execute("a", "create", this::run);
+            cache.execute("b", "create", this::run);
+            assertEquals(2, cache.size());
+            return run();
+        });
+
+        assertEquals(result, cache.execute("slow", "guess", this::run));
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should expire results by the time they were produced, past keys still running")
+    void testExecute_ExpiresByCompletion() {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 100, now::get);
+
+        String result = cache.execute("slow", "guess", () -> {
+            cache.execute("a", "create", this::run);
+            now.set(200);
+            cache.execute("b", "create", this::run);
+            // "a" expired although the older "slow" has not produced its result yet
+            assertEquals(2, cache.size());
+            return run();
+        });
+
+        now.set(299);
+        assertEquals(result, cache.execute("slow", "guess", this::run));
+        assertEquals("game-2", cache.execute("b", "create", this::run));
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should run the operation once for concurrent requests with the same key")
+    void testExecute_CoalescesConcurrentRequests() throws Exception {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(10, 100, now::get);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.execute("key", "guess", () -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return run();
+            })));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.execute("key", "guess", this::run)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("game-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, runs.get());
+    }
+
+    private String run() {
+        return "game-" + runs.incrementAndGet();
+    }
+}
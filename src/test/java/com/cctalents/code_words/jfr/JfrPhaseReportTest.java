@@ -0,0 +1,73 @@
+package com.cctalents.code_words.jfr;
+
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrPhaseReportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRequestEventsAreCommittedWithSerializationPhase() throws Exception {
+        Path file = directory.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GameOperationEvent.class).withoutThreshold();
+            recording.enable(WordSelectionEvent.class).withoutThreshold();
+            recording.start();
+            assertTrue(RequestPhases.isRecording());
+
+            RequestPhases.open();
+            GameOperationEvent guess = GameOperationEvent.start("guess");
+            long t = guess.mark();
+            LockSupport.parkNanos(1_000_000);
+            t = guess.repository(t);
+            guess.domain(t);
+            guess.result(Game.builder().id(7L).difficulty(Difficulty.EASY).status(GameStatus.WON).build());
+            RequestPhases.complete(guess);
+            RequestPhases.startSerialization();
+            LockSupport.parkNanos(1_000_000);
+            RequestPhases.close();
+
+            WordSelectionEvent selection = WordSelectionEvent.start("en", "EASY");
+            selection.domain(selection.mark());
+            selection.commit();
+
+            GameOperationEvent forfeit = GameOperationEvent.start("forfeit");
+            RequestPhases.complete(forfeit);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, JfrPhaseReport.Breakdown> report = JfrPhaseReport.summarize(file);
+
+        assertEquals(3, report.size());
+        JfrPhaseReport.Breakdown guess = report.get("GameOperation/guess");
+        assertEquals(1, guess.count());
+        assertTrue(guess.percentile("repository", 0.5) >= 1_000_000);
+        assertTrue(guess.percentile("serialization", 0.5) >= 1_000_000);
+        assertTrue(guess.percentile("total", 0.5) >= 2_000_000);
+        assertEquals(0, report.get("GameOperation/forfeit").percentile("serialization", 0.5));
+        assertEquals(1, report.get("WordSelection").count());
+    }
+
+    @Test
+    void testNothingIsTrackedWithoutRecording() {
+        assertFalse(RequestPhases.isRecording());
+
+        GameOperationEvent event = GameOperationEvent.start("guess");
+        assertEquals(0L, event.mark());
+        assertEquals(0L, event.repository(123L));
+    }
+}
@@ -0,0 +1,84 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class GameRepositoryTest {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private Game won;
+    private Game lost;
+    private Game inProgress;
+    private Game notGuessed;
+
+    @BeforeEach
+    void setUp() {
+        won = gameRepository.save(game("Ann", GameStatus.WON, Difficulty.EASY));
+        gameRepository.save(game("Bob", GameStatus.WON, Difficulty.EASY));
+        lost = gameRepository.save(game("Ann", GameStatus.LOST, Difficulty.HARD));
+        inProgress = gameRepository.save(game("Ann", GameStatus.IN_PROGRESS, Difficulty.EASY));
+        // games without a guess yet have no status
+        notGuessed = gameRepository.save(game("Ann", null, Difficulty.HARD));
+    }
+
+    @Test
+    @DisplayName("Should return a player's games newest first, below the cursor and up to the limit")
+    void testFindHistory_PagesNewestFirst() {
+        assertEquals(ids(notGuessed, inProgress, lost, won),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, null, null, Limit.of(10))));
+        assertEquals(ids(notGuessed, inProgress),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, null, null, Limit.of(2))));
+        assertEquals(ids(lost, won),
+                ids(gameRepository.findHistory("Ann", inProgress.getId(), null, null, Limit.of(2))));
+    }
+
+    @Test
+    @DisplayName("Should filter by status and difficulty, matching games without a guess yet as in progress")
+    void testFindHistory_StatusFilter() {
+        assertEquals(ids(notGuessed, inProgress),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, GameStatus.IN_PROGRESS, null, Limit.of(10))));
+        assertEquals(ids(won),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, GameStatus.WON, null, Limit.of(10))));
+        assertEquals(ids(notGuessed),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, GameStatus.IN_PROGRESS, Difficulty.HARD,
+                        Limit.of(10))));
+        assertEquals(ids(inProgress, won),
+                ids(gameRepository.findHistory("Ann", Long.MAX_VALUE, null, Difficulty.EASY, Limit.of(10))));
+    }
+
+    private List<Long> ids(Game... games) {
+        return Arrays.stream(games).map(Game::getId).toList();
+    }
+
+    private List<Long> ids(List<Game> games) {
+        return games.stream().map(Game::getId).toList();
+    }
+
+    private Game game(String player, GameStatus status, Difficulty difficulty) {
+        return Game.builder()
+                .word("apple")
+                .maskedWord("_____")
+                .remainingAttempts(6)
+                .status(status)
+                .player(player)
+                .difficulty(difficulty)
+                .locale("en")
+                .missedLetters("")
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.cctalents.code_words.repository;
+
+import com.cctalents.code_words.config.ReadModelProperties;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.projection.GameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGameViewRepositoryTest {
+
+    private InMemoryGameViewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ReadModelProperties properties = new ReadModelProperties();
+        properties.setLeaderboardSize(2);
+        properties.setMaxFinishedGames(2);
+        repository = new InMemoryGameViewRepository(properties);
+    }
+
+    @Test
+    @DisplayName("Should replace the previous view of a game when it is saved again")
+    void testSave_ReplacesPreviousView() {
+        repository.save(view(1L, Difficulty.EASY, GameStatus.IN_PROGRESS, 6, 0));
+        repository.save(view(1L, Difficulty.EASY, GameStatus.IN_PROGRESS, 5, 1));
+
+        assertEquals(5, repository.findById(1L).getRemainingAttempts());
+        assertEquals(1, repository.findAll().size());
+        assertNull(repository.findById(2L));
+    }
+
+    @Test
+    @DisplayName("Should keep the newer view of a game when an older one is saved after it")
+    void testSave_IgnoresOlderView() {
+        repository.save(view(1L, Difficulty.EASY, GameStatus.WON, 4, 3));
+        repository.save(view(1L, Difficulty.EASY, GameStatus.IN_PROGRESS, 5, 2));
+        repository.save(view(2L, Difficulty.EASY, GameStatus.IN_PROGRESS, 6, 1));
+        repository.save(view(2L, Difficulty.EASY, GameStatus.WON, 6, 1));
+
+        assertEquals(GameStatus.WON, repository.findById(1L).getStatus());
+        assertEquals(4, repository.findById(1L).getRemainingAttempts());
+        assertEquals(GameStatus.IN_PROGRESS, repository.findById(2L).getStatus());
+        assertEquals(List.of(1L), repository.findLeaders(Difficulty.EASY).stream().map(GameView::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep only the best won games of each difficulty as leaders")
+    void testFindLeaders_TrimmedAndSorted() {
+        repository.save(view(1L, Difficulty.EASY, GameStatus.WON, 2));
+        repository.save(view(2L, Difficulty.EASY, GameStatus.WON, 5));
+        repository.save(view(3L, Difficulty.EASY, GameStatus.LOST, 6));
+        repository.save(view(4L, Difficulty.EASY, GameStatus.WON, 4));
+        repository.save(view(5L, Difficulty.HARD, GameStatus.WON, 1));
+
+        List<GameView> easy = repository.findLeaders(Difficulty.EASY);
+
+        assertEquals(List.of(2L, 4L), easy.stream().map(GameView::getId).toList());
+        assertEquals(1, repository.findLeaders(Difficulty.HARD).size());
+        assertTrue(repository.findLeaders(Difficulty.MEDIUM).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should only keep the most recently finished games but leave the leaders on their board")
+    void testSave_DropsOldestFinishedGames() {
+        repository.save(view(1L, Difficulty.EASY, GameStatus.WON, 5, 1));
+        repository.save(view(2L, Difficulty.EASY, GameStatus.IN_PROGRESS, 6, 0));
+        repository.save(view(3L, Difficulty.EASY, GameStatus.LOST, 0, 6));
+        repository.save(view(4L, Difficulty.EASY, GameStatus.WON, 2, 4));
+
+        assertNull(repository.findById(1L));
+        assertNotNull(repository.findById(2L));
+        assertNotNull(repository.findById(3L));
+        assertNotNull(repository.findById(4L));
+        assertEquals(List.of(1L, 4L), repository.findLeaders(Difficulty.EASY).stream().map(GameView::getId).toList());
+    }
+
+    private GameView view(Long id, Difficulty difficulty, GameStatus status, int remainingAttempts) {
+        return view(id, difficulty, status, remainingAttempts, 0);
+    }
+
+    private GameView view(Long id, Difficulty difficulty, GameStatus status, int remainingAttempts, long version) {
+        return GameView.builder()
+                .id(id)
+                .player("Player" + id)
+                .difficulty(difficulty)
+                .status(status)
+                .remainingAttempts(remainingAttempts)
+                .maskedWord("_____")
+                .version(version)
+                .build();
+    }
+}
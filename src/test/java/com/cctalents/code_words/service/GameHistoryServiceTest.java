@@ -0,0 +1,97 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.HistoryProperties;
+import com.cctalents.code_words.dto.GameHistoryPageResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.repository.GameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class GameHistoryServiceTest {
+
+    @Autowired
+    private GameHistoryService historyService;
+
+    @MockitoBean
+    private GameRepository gameRepository;
+
+    @MockitoBean
+    private HistoryProperties historyProperties;
+
+    @Test
+    @DisplayName("Should fetch one game more than the page to return the cursor of the next page")
+    void testGetHistory_ReturnsNextCursor() {
+        when(historyProperties.getPageSize()).thenReturn(2);
+        when(historyProperties.getMaxPageSize()).thenReturn(100);
+        when(gameRepository.findHistory("Ann", Long.MAX_VALUE, null, Difficulty.EASY, Limit.of(3)))
+                .thenReturn(games(9, 7, 4));
+
+        GameHistoryPageResponse result = historyService.getHistory("Ann", null, null, null, Difficulty.EASY);
+
+        assertEquals(List.of(9L, 7L), result.getGames().stream().map(game -> game.getGameId()).toList());
+        assertEquals(7L, result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should cap the page size and return no cursor on the last page")
+    void testGetHistory_LastPage() {
+        when(historyProperties.getMaxPageSize()).thenReturn(5);
+        when(gameRepository.findHistory("Ann", 7L, GameStatus.WON, null, Limit.of(6)))
+                .thenReturn(games(4));
+
+        GameHistoryPageResponse result = historyService.getHistory("Ann", 7L, 1000, GameStatus.WON, null);
+
+        assertEquals(1, result.getGames().size());
+        assertEquals("apple", result.getGames().get(0).getWord());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should export every game batch by batch as newline-delimited JSON")
+    void testExport_WalksBatches() throws Exception {
+        when(historyProperties.getExportBatchSize()).thenReturn(2);
+        when(gameRepository.findHistory(eq("Ann"), eq(Long.MAX_VALUE), isNull(), isNull(), eq(Limit.of(2))))
+                .thenReturn(games(9, 7));
+        when(gameRepository.findHistory(eq("Ann"), eq(7L), isNull(), isNull(), eq(Limit.of(2))))
+                .thenReturn(games(4));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = historyService.export("Ann", null, null, output);
+
+        assertEquals(3, written);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[2].startsWith("{\"gameId\":4,\"word\":\"apple\""));
+        verify(gameRepository, times(2)).findHistory(any(), anyLong(), any(), any(), any());
+    }
+
+    private static List<Game> games(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> Game.builder()
+                        .id(id)
+                        .word("apple")
+                        .maskedWord("_____")
+                        .remainingAttempts(3)
+                        .status(GameStatus.WON)
+                        .difficulty(Difficulty.EASY)
+                        .locale("en")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.ReadModelProperties;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.projection.GameView;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.GameViewRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameProjectorTest {
+
+    private GameViewRepository viewRepository;
+    private GameRepository gameRepository;
+    private GameProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        ReadModelProperties properties = new ReadModelProperties();
+        properties.setHydrateBatchSize(2);
+        viewRepository = mock(GameViewRepository.class);
+        gameRepository = mock(GameRepository.class);
+        projector = new GameProjector(properties, viewRepository, gameRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projector.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep applying views after one of them failed to be saved")
+    void testProject_ContinuesAfterFailedSave() {
+        doThrow(new IllegalStateException("read model unavailable"))
+                .when(viewRepository).save(argThat(view -> view.getId() == 1L));
+
+        projector.project(game(1L));
+        verify(viewRepository, timeout(5000)).save(argThat(view -> view.getId() == 1L));
+        projector.project(game(2L));
+
+        verify(viewRepository, timeout(5000)).save(argThat(view -> view.getId() == 2L));
+    }
+
+    @Test
+    @DisplayName("Should hydrate the read model in batches of ascending ids")
+    void testHydrate_ReadsInBatches() {
+        when(gameRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(game(1L), game(2L)));
+        when(gameRepository.findAllByIdGreaterThanOrderByIdAsc(eq(2L), any(Limit.class)))
+                .thenReturn(List.of(game(5L)));
+
+        projector.hydrate();
+
+        verify(viewRepository, times(3)).save(any(GameView.class));
+        verify(gameRepository).findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        verify(gameRepository).findAllByIdGreaterThanOrderByIdAsc(2L, Limit.of(2));
+        verifyNoMoreInteractions(gameRepository);
+        assertEquals(0, projector.lagNanos());
+    }
+
+    private Game game(Long id) {
+        return Game.builder()
+                .id(id)
+                .player("Player" + id)
+                .difficulty(Difficulty.EASY)
+                .status(GameStatus.IN_PROGRESS)
+                .maskedWord("_____")
+                .remainingAttempts(6)
+                .build();
+    }
+}
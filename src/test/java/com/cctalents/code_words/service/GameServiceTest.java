@@ -1,22 +1,27 @@
 package com.cctalents.code_words.service;
 
 import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.config.PersistenceProperties;
 import com.cctalents.code_words.dto.CreateGameRequest;
 import com.cctalents.code_words.dto.GameRequest;
 import com.cctalents.code_words.entity.Game;
 import com.cctalents.code_words.enums.Difficulty;
 import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.ConcurrentGuessException;
 import com.cctalents.code_words.exception.GameAlreadyFinishedException;
 import com.cctalents.code_words.exception.MultipleGuessLetterNotAllowedException;
+import com.cctalents.code_words.exception.TournamentFinishedException;
 import com.cctalents.code_words.repository.GameRepository;
 import com.cctalents.code_words.util.GameUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.verification.VerificationMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,19 +41,35 @@ class GameServiceTest {
     @MockitoBean
     private WordService wordService;
 
+    @MockitoBean
+    private PlayerStatsService playerStatsService;
+
+    @MockitoBean
+    private GameProjector gameProjector;
+
+    @MockitoBean
+    private GuessAnalyticsService guessAnalyticsService;
+
+    @MockitoBean
+    private TournamentStandingsService tournamentStandingsService;
+
+    @MockitoBean
+    private PersistenceProperties persistenceProperties;
+
     @Test
     @DisplayName("Should create a game with the provided player and difficulty when valid inputs are given")
     void testCreateGame_WithValidInputs() {
         CreateGameRequest request = CreateGameRequest.builder()
                 .player("Player1")
                 .difficulty("EASY")
+                .locale("DE")
                 .build();
 
         String expectedWord = "example";
         String maskedWord = GameUtil.mask(expectedWord);
 
-        when(gameProperties.getAllowedAttempts()).thenReturn(5);
-        when(wordService.getRandomWordByDifficulty(Difficulty.valueOf("EASY"))).thenReturn(expectedWord);
+        when(gameProperties.getAllowedAttempts(Difficulty.EASY)).thenReturn(5);
+        when(wordService.getRandomWord("de", Difficulty.valueOf("EASY"))).thenReturn(expectedWord);
         when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Game result = gameService.createGame(request);
@@ -58,10 +79,13 @@ class GameServiceTest {
         assertEquals(maskedWord, result.getMaskedWord());
         assertEquals(5, result.getRemainingAttempts());
         assertEquals("Player1", result.getPlayer());
+        assertEquals(Difficulty.EASY, result.getDifficulty());
+        assertEquals("de", result.getLocale());
         assertNull(result.getStatus());
 
         verify(gameRepository, times(1)).save(any(Game.class));
-        verify(wordService, times(1)).getRandomWordByDifficulty(Difficulty.valueOf("EASY"));
+        verify(wordService, times(1)).getRandomWord("de", Difficulty.valueOf("EASY"));
+        verify(gameProjector, times(1)).project(result);
     }
 
     @Test
@@ -75,8 +99,9 @@ class GameServiceTest {
 
         when(gameProperties.getDefaultPlayer()).thenReturn(defaultPlayer);
         when(gameProperties.getDefaultDifficulty()).thenReturn(defaultDifficulty);
-        when(gameProperties.getAllowedAttempts()).thenReturn(6);
-        when(wordService.getRandomWordByDifficulty(Difficulty.valueOf(defaultDifficulty))).thenReturn(expectedWord);
+        when(gameProperties.getDefaultLocale()).thenReturn("en");
+        when(gameProperties.getAllowedAttempts(Difficulty.MEDIUM)).thenReturn(6);
+        when(wordService.getRandomWord("en", Difficulty.valueOf(defaultDifficulty))).thenReturn(expectedWord);
         when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Game result = gameService.createGame(request);
@@ -89,7 +114,7 @@ class GameServiceTest {
         assertNull(result.getStatus());
 
         verify(gameRepository, times(1)).save(any(Game.class));
-        verify(wordService, times(1)).getRandomWordByDifficulty(Difficulty.valueOf(defaultDifficulty));
+        verify(wordService, times(1)).getRandomWord("en", Difficulty.valueOf(defaultDifficulty));
     }
 
     @Test
@@ -103,8 +128,9 @@ class GameServiceTest {
         String expectedWord = "hardword";
 
         when(gameProperties.getDefaultDifficulty()).thenReturn(defaultDifficulty);
-        when(gameProperties.getAllowedAttempts()).thenReturn(3);
-        when(wordService.getRandomWordByDifficulty(Difficulty.valueOf(defaultDifficulty))).thenReturn(expectedWord);
+        when(gameProperties.getDefaultLocale()).thenReturn("en");
+        when(gameProperties.getAllowedAttempts(Difficulty.HARD)).thenReturn(3);
+        when(wordService.getRandomWord("en", Difficulty.valueOf(defaultDifficulty))).thenReturn(expectedWord);
         when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Game result = gameService.createGame(request);
@@ -117,7 +143,7 @@ class GameServiceTest {
         assertNull(result.getStatus());
 
         verify(gameRepository, times(1)).save(any(Game.class));
-        verify(wordService, times(1)).getRandomWordByDifficulty(Difficulty.valueOf(defaultDifficulty));
+        verify(wordService, times(1)).getRandomWord("en", Difficulty.valueOf(defaultDifficulty));
     }
 
     @Test
@@ -131,8 +157,9 @@ class GameServiceTest {
         String expectedWord = "simple";
 
         when(gameProperties.getDefaultPlayer()).thenReturn(defaultPlayer);
-        when(gameProperties.getAllowedAttempts()).thenReturn(4);
-        when(wordService.getRandomWordByDifficulty(Difficulty.valueOf("EASY"))).thenReturn(expectedWord);
+        when(gameProperties.getDefaultLocale()).thenReturn("en");
+        when(gameProperties.getAllowedAttempts(Difficulty.EASY)).thenReturn(4);
+        when(wordService.getRandomWord("en", Difficulty.valueOf("EASY"))).thenReturn(expectedWord);
         when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Game result = gameService.createGame(request);
@@ -145,7 +172,7 @@ class GameServiceTest {
         assertNull(result.getStatus());
 
         verify(gameRepository, times(1)).save(any(Game.class));
-        verify(wordService, times(1)).getRandomWordByDifficulty(Difficulty.valueOf("EASY"));
+        verify(wordService, times(1)).getRandomWord("en", Difficulty.valueOf("EASY"));
     }
 
     @Test
@@ -165,15 +192,16 @@ class GameServiceTest {
                 .status(null)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
-        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        stubUpdateState(1);
 
         Game result = gameService.guess(gameId, gameRequest);
 
         assertNotNull(result);
         assertEquals(GameStatus.WON, result.getStatus());
         assertEquals(correctWord, result.getMaskedWord());
-        verify(gameRepository, times(1)).save(any(Game.class));
+        verifyUpdateState(times(1));
+        verify(playerStatsService, times(1)).recordFinishedGame(result);
     }
 
     @Test
@@ -194,8 +222,8 @@ class GameServiceTest {
                 .status(null)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
-        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        stubUpdateState(1);
 
         Game result = gameService.guess(gameId, gameRequest);
 
@@ -203,7 +231,9 @@ class GameServiceTest {
         assertEquals("ex____e", result.getMaskedWord());
         assertEquals(3, result.getRemainingAttempts());
         assertEquals(GameStatus.IN_PROGRESS, result.getStatus());
-        verify(gameRepository, times(1)).save(any(Game.class));
+        verifyUpdateState(times(1));
+        verify(gameProjector, times(1)).project(result);
+        verify(guessAnalyticsService, times(1)).record(result, "e", true, true);
     }
 
     @Test
@@ -224,16 +254,19 @@ class GameServiceTest {
                 .status(null)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
-        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        stubUpdateState(1);
 
         Game result = gameService.guess(gameId, gameRequest);
 
         assertNotNull(result);
         assertEquals(2, result.getRemainingAttempts());
         assertEquals(maskedWord, result.getMaskedWord());
+        assertEquals("z", result.getMissedLetters());
         assertEquals(GameStatus.IN_PROGRESS, result.getStatus());
-        verify(gameRepository, times(1)).save(any(Game.class));
+        verifyUpdateState(times(1));
+        verify(guessAnalyticsService, times(1)).record(result, "z", false, true);
+        verify(playerStatsService, never()).recordFinishedGame(any(Game.class));
     }
 
     @Test
@@ -254,8 +287,8 @@ class GameServiceTest {
                 .status(GameStatus.IN_PROGRESS)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
-        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        stubUpdateState(1);
 
         Game result = gameService.guess(gameId, gameRequest);
 
@@ -263,7 +296,8 @@ class GameServiceTest {
         assertEquals(0, result.getRemainingAttempts());
         assertEquals(maskedWord, result.getMaskedWord());
         assertEquals(GameStatus.LOST, result.getStatus());
-        verify(gameRepository, times(1)).save(any(Game.class));
+        verifyUpdateState(times(1));
+        verify(playerStatsService, times(1)).recordFinishedGame(result);
     }
 
     @Test
@@ -282,10 +316,10 @@ class GameServiceTest {
                 .status(GameStatus.LOST)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
 
         assertThrows(GameAlreadyFinishedException.class, () -> gameService.guess(gameId, gameRequest));
-        verify(gameRepository, never()).save(any(Game.class));
+        verifyUpdateState(never());
     }
 
     @Test
@@ -304,10 +338,11 @@ class GameServiceTest {
                 .status(null)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
 
         assertThrows(MultipleGuessLetterNotAllowedException.class, () -> gameService.guess(gameId, gameRequest));
-        verify(gameRepository, never()).save(any(Game.class));
+        verifyUpdateState(never());
+        verify(guessAnalyticsService, never()).record(any(Game.class), anyString(), anyBoolean(), anyBoolean());
     }
 
     @Test
@@ -323,14 +358,15 @@ class GameServiceTest {
                 .status(GameStatus.IN_PROGRESS)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
-        when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        stubUpdateState(1);
 
         Game result = gameService.forfeit(gameId);
 
         assertNotNull(result);
         assertEquals(GameStatus.LOST, result.getStatus());
-        verify(gameRepository, times(1)).save(any(Game.class));
+        verifyUpdateState(times(1));
+        verify(playerStatsService, times(1)).recordFinishedGame(result);
     }
 
     @Test
@@ -346,10 +382,157 @@ class GameServiceTest {
                 .status(GameStatus.WON)
                 .build();
 
-        when(gameRepository.findById(gameId)).thenReturn(java.util.Optional.of(game));
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
 
         assertThrows(GameAlreadyFinishedException.class, () -> gameService.forfeit(gameId));
+        verifyUpdateState(never());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when guessing in a game of a finished tournament")
+    void testGuess_FinishedTournamentThrowsException() {
+        Long gameId = 11L;
+
+        GameRequest gameRequest = new GameRequest();
+        gameRequest.setGuess("e");
+
+        Game game = Game.builder()
+                .id(gameId)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(6)
+                .status(GameStatus.IN_PROGRESS)
+                .tournamentId(3L)
+                .build();
+
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+        when(tournamentStandingsService.isFinished(3L)).thenReturn(true);
+
+        assertThrows(TournamentFinishedException.class, () -> gameService.guess(gameId, gameRequest));
+        assertThrows(TournamentFinishedException.class, () -> gameService.forfeit(gameId));
+        verifyUpdateState(never());
+        verify(tournamentStandingsService, never()).onGameUpdated(any(Game.class));
+    }
+
+    @Test
+    @DisplayName("Should apply the guess again on the fresh game when the version changed concurrently")
+    void testGuess_RetriesOnVersionConflict() {
+        Long gameId = 9L;
+
+        GameRequest gameRequest = new GameRequest();
+        gameRequest.setGuess("z");
+
+        Game stale = Game.builder()
+                .id(gameId)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(3)
+                .status(GameStatus.IN_PROGRESS)
+                .version(4)
+                .build();
+        Game fresh = Game.builder()
+                .id(gameId)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(2)
+                .missedLetters("q")
+                .status(GameStatus.IN_PROGRESS)
+                .version(5)
+                .build();
+
+        when(persistenceProperties.getMaxUpdateAttempts()).thenReturn(3);
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(stale)).thenReturn(Optional.of(fresh));
+        when(gameRepository.updateState(gameId, 4L, "_______", 2, GameStatus.IN_PROGRESS, "z")).thenReturn(0);
+        when(gameRepository.updateState(gameId, 5L, "_______", 1, GameStatus.IN_PROGRESS, "qz")).thenReturn(1);
+
+        Game result = gameService.guess(gameId, gameRequest);
+
+        assertEquals(1, result.getRemainingAttempts());
+        assertEquals("qz", result.getMissedLetters());
+        assertEquals(6, result.getVersion());
+        verifyUpdateState(times(2));
+        verify(gameProjector, times(1)).project(result);
+    }
+
+    @Test
+    @DisplayName("Should give up when the game keeps changing concurrently")
+    void testGuess_ThrowsAfterMaxUpdateAttempts() {
+        Long gameId = 10L;
+
+        GameRequest gameRequest = new GameRequest();
+        gameRequest.setGuess("z");
+
+        when(persistenceProperties.getMaxUpdateAttempts()).thenReturn(2);
+        when(gameRepository.findById(gameId)).thenAnswer(invocation -> Optional.of(Game.builder()
+                .id(gameId)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(3)
+                .status(GameStatus.IN_PROGRESS)
+                .build()));
+        stubUpdateState(0);
+
+        assertThrows(ConcurrentGuessException.class, () -> gameService.guess(gameId, gameRequest));
+        verifyUpdateState(times(2));
+        verify(gameProjector, never()).project(any(Game.class));
+    }
+
+    @Test
+    @DisplayName("Should count a hint against the game")
+    void testRecordHint_IncrementsHintsUsed() {
+        Game game = Game.builder()
+                .id(8L)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(5)
+                .hintsUsed(1)
+                .status(GameStatus.IN_PROGRESS)
+                .version(3)
+                .build();
+
+        when(gameRepository.findById(8L)).thenReturn(Optional.of(game));
+        when(gameRepository.incrementHintsUsed(8L, 3L)).thenReturn(1);
+
+        Game result = gameService.recordHint(8L);
+
+        assertEquals(2, result.getHintsUsed());
+        assertEquals(5, result.getRemainingAttempts());
+        assertEquals(4, result.getVersion());
         verify(gameRepository, never()).save(any(Game.class));
+        verify(gameProjector, times(1)).project(result);
+    }
+
+    @Test
+    @DisplayName("Should count a hint again on the fresh game when a guess changed it concurrently")
+    void testRecordHint_RetriesOnVersionConflict() {
+        Game stale = Game.builder()
+                .id(12L)
+                .word("example")
+                .maskedWord("_______")
+                .remainingAttempts(5)
+                .status(GameStatus.IN_PROGRESS)
+                .version(1)
+                .build();
+        Game fresh = Game.builder()
+                .id(12L)
+                .word("example")
+                .maskedWord("e_____e")
+                .remainingAttempts(5)
+                .status(GameStatus.IN_PROGRESS)
+                .version(2)
+                .build();
+
+        when(persistenceProperties.getMaxUpdateAttempts()).thenReturn(3);
+        when(gameRepository.findById(12L)).thenReturn(Optional.of(stale)).thenReturn(Optional.of(fresh));
+        when(gameRepository.incrementHintsUsed(12L, 1L)).thenReturn(0);
+        when(gameRepository.incrementHintsUsed(12L, 2L)).thenReturn(1);
+
+        Game result = gameService.recordHint(12L);
+
+        assertEquals("e_____e", result.getMaskedWord());
+        assertEquals(1, result.getHintsUsed());
+        assertEquals(3, result.getVersion());
+        verify(gameRepository, times(2)).incrementHintsUsed(anyLong(), anyLong());
     }
 
     @Test
@@ -401,4 +584,12 @@ class GameServiceTest {
 
         verify(gameRepository, times(1)).findAllByStatus(GameStatus.WON);
     }
-}
\ No newline at end of file
+
+    private void stubUpdateState(int updated) {
+        when(gameRepository.updateState(anyLong(), anyLong(), any(), anyInt(), any(), any())).thenReturn(updated);
+    }
+
+    private void verifyUpdateState(VerificationMode mode) {
+        verify(gameRepository, mode).updateState(anyLong(), anyLong(), any(), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,176 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.SnapshotProperties;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.PlayerStats;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// a database of its own, so deleting and restoring rows does not leak into other tests
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:snapshot-test")
+class GameSnapshotServiceTest {
+
+    private static Path directory;
+
+    @Autowired
+    private GameSnapshotService snapshotService;
+
+    @Autowired
+    private SnapshotProperties snapshotProperties;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void snapshotDirectory(DynamicPropertyRegistry registry) throws IOException {
+        directory = Files.createTempDirectory("game-snapshots");
+        registry.add("game.snapshot.directory", directory::toString);
+        registry.add("game.snapshot.restore-on-startup", () -> "false");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (Path file : snapshotService.listSnapshots()) {
+            Files.delete(file);
+        }
+        clearTables();
+    }
+
+    @Test
+    @DisplayName("Should restore every snapshotted row and restart the ids after the highest one")
+    void testRestore_RoundTrip() throws IOException {
+        Game first = gameRepository.save(game("apple", "a____", GameStatus.IN_PROGRESS));
+        Game second = gameRepository.save(game("grape", "grape", GameStatus.WON));
+        PlayerStats stats = new PlayerStats("Ann");
+        stats.setGamesPlayed(2);
+        playerStatsRepository.save(stats);
+        snapshotService.snapshot();
+        clearTables();
+
+        long rows = snapshotService.restore(single(snapshotService.listSnapshots()));
+
+        assertEquals(3, rows);
+        Game restored = gameRepository.findById(second.getId()).orElseThrow();
+        assertEquals("grape", restored.getWord());
+        assertEquals(GameStatus.WON, restored.getStatus());
+        assertEquals(second.getVersion(), restored.getVersion());
+        assertEquals("a____", gameRepository.findById(first.getId()).orElseThrow().getMaskedWord());
+        assertEquals(2, playerStatsRepository.findById("Ann").orElseThrow().getGamesPlayed());
+
+        // new games must not collide with the restored ids
+        Game next = gameRepository.save(game("lemon", "_____", GameStatus.IN_PROGRESS));
+        assertEquals(second.getId() + 1, next.getId());
+    }
+
+    @Test
+    @DisplayName("Should replace the seeded words with the snapshotted words and weights")
+    void testRestore_ReplacesSeededWords() throws IOException {
+        jdbcTemplate.update("INSERT INTO words (name, difficulty, locale) VALUES ('apple', 'EASY', 'en')");
+        jdbcTemplate.update("INSERT INTO words (name, difficulty, locale, weight) VALUES ('pumpkin', 'EASY', 'en', 5)");
+        snapshotService.snapshot();
+        clearTables();
+        // what the seeder inserts on the next startup
+        jdbcTemplate.update("INSERT INTO words (name, difficulty, locale) VALUES ('apple', 'EASY', 'en')");
+
+        snapshotService.restore(single(snapshotService.listSnapshots()));
+
+        assertEquals(List.of("apple:1.0", "pumpkin:5.0"), jdbcTemplate.queryForList(
+                "SELECT name || ':' || CAST(weight AS VARCHAR) FROM words ORDER BY name", String.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the columns dropped since the snapshot was taken")
+    void testRestore_SkipsDroppedColumns() throws IOException {
+        jdbcTemplate.execute("ALTER TABLE games ADD COLUMN legacy_note VARCHAR(20)");
+        try {
+            Game game = gameRepository.save(game("apple", "a____", GameStatus.IN_PROGRESS));
+            jdbcTemplate.update("UPDATE games SET legacy_note = 'old' WHERE id = ?", game.getId());
+            snapshotService.snapshot();
+            clearTables();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE games DROP COLUMN legacy_note");
+        }
+
+        long rows = snapshotService.restore(single(snapshotService.listSnapshots()));
+
+        assertEquals(1, rows);
+        assertEquals(List.of("apple"), jdbcTemplate.queryForList("SELECT word FROM games", String.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to an older snapshot on startup when the newest is damaged")
+    void testAfterSingletonsInstantiated_FallsBackToOlderSnapshot() throws Exception {
+        Game kept = gameRepository.save(game("apple", "a____", GameStatus.IN_PROGRESS));
+        snapshotService.snapshot();
+        // snapshot files are named after the millisecond they are taken
+        Thread.sleep(5);
+        gameRepository.save(game("grape", "_____", GameStatus.IN_PROGRESS));
+        snapshotService.snapshot();
+        List<Path> snapshots = snapshotService.listSnapshots();
+        assertEquals(2, snapshots.size());
+        try (FileChannel newest = FileChannel.open(snapshots.get(1), StandardOpenOption.WRITE)) {
+            newest.truncate(newest.size() / 2);
+        }
+        clearTables();
+
+        snapshotProperties.setRestoreOnStartup(true);
+        try {
+            snapshotService.afterSingletonsInstantiated();
+        } finally {
+            snapshotProperties.setRestoreOnStartup(false);
+        }
+
+        // the damaged snapshot was rolled back before the older one was restored
+        assertEquals(List.of(kept.getId()), jdbcTemplate.queryForList("SELECT id FROM games", Long.class));
+    }
+
+    private void clearTables() {
+        List<String> tables = snapshotProperties.getTables();
+        for (int index = tables.size() - 1; index >= 0; index--) {
+            jdbcTemplate.update("DELETE FROM " + tables.get(index));
+        }
+    }
+
+    private Path single(List<Path> snapshots) {
+        assertEquals(1, snapshots.size());
+        return snapshots.get(0);
+    }
+
+    private Game game(String word, String maskedWord, GameStatus status) {
+        return Game.builder()
+                .word(word)
+                .maskedWord(maskedWord)
+                .remainingAttempts(6)
+                .status(status)
+                .player("Ann")
+                .difficulty(Difficulty.EASY)
+                .locale("en")
+                .missedLetters("")
+                .build();
+    }
+}
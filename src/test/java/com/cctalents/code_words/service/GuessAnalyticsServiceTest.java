@@ -0,0 +1,165 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.AnalyticsProperties;
+import com.cctalents.code_words.dto.LetterStatsResponse;
+import com.cctalents.code_words.dto.WordStatsResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessAnalyticsServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private AnalyticsProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AnalyticsProperties();
+        properties.setSnapshotFile(directory.resolve("analytics.bin").toString());
+    }
+
+    @Test
+    @DisplayName("Should not lose any guess recorded from many threads at once")
+    void testRecord_ConcurrentGuesses() throws InterruptedException {
+        GuessAnalyticsService service = new GuessAnalyticsService(properties);
+        Game game = game("apple", GameStatus.IN_PROGRESS, 6);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    service.record(game, "a", true, false);
+                    service.record(game, "z", false, false);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<LetterStatsResponse> letters = service.getLetterStats(Difficulty.EASY);
+        assertEquals(80_000, letters.get(0).getGuesses());
+        assertEquals(1.0, letters.get(0).getHitRate());
+        assertEquals(80_000, letters.get(25).getGuesses());
+        assertEquals(0, letters.get(25).getHits());
+
+        WordStatsResponse word = service.getMostMissedWords(1).get(0);
+        assertEquals(160_000, word.getGuesses());
+        assertEquals(80_000, word.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should restore the counters from the last snapshot")
+    void testSnapshot_RestoresCounters() throws Exception {
+        GuessAnalyticsService service = new GuessAnalyticsService(properties);
+        service.record(game("robot", GameStatus.IN_PROGRESS, 6), "r", true, true);
+        service.record(game("robot", GameStatus.IN_PROGRESS, 5), "x", false, false);
+        service.record(game("robot", GameStatus.LOST, 0), "9", false, false);
+        service.snapshot();
+
+        GuessAnalyticsService restored = new GuessAnalyticsService(properties);
+        restored.restore();
+
+        List<LetterStatsResponse> letters = restored.getLetterStats(Difficulty.EASY);
+        assertEquals(1, letters.get('r' - 'a').getFirstGuesses());
+        assertEquals(1, letters.get('x' - 'a').getGuesses());
+        assertEquals("other", letters.get(letters.size() - 1).getLetter());
+        assertEquals(1, letters.get(letters.size() - 1).getGuesses());
+
+        WordStatsResponse word = restored.getMostMissedWords(10).get(0);
+        assertEquals("robot", word.getWord());
+        assertEquals(3, word.getGuesses());
+        assertEquals(2, word.getMisses());
+        assertEquals(1, word.getRemainingAttemptsHistogram()[0]);
+    }
+
+    @Test
+    @DisplayName("Should restore nothing from a truncated snapshot")
+    void testRestore_TruncatedSnapshot() throws Exception {
+        GuessAnalyticsService service = new GuessAnalyticsService(properties);
+        for (int i = 0; i < 1_000; i++) {
+            service.record(game("word" + i, GameStatus.IN_PROGRESS, 6), "e", true, false);
+        }
+        service.snapshot();
+        Path file = Path.of(properties.getSnapshotFile());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        GuessAnalyticsService restored = new GuessAnalyticsService(properties);
+        restored.restore();
+
+        assertEquals(0, restored.getLetterStats(Difficulty.EASY).get('e' - 'a').getGuesses());
+        assertTrue(restored.getMostMissedWords(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count the letters of every supported locale apart")
+    void testRecord_AccentedLetters() {
+        GuessAnalyticsService service = new GuessAnalyticsService(properties);
+        service.record(game("käse", GameStatus.IN_PROGRESS, 6), "Ä", true, true);
+        service.record(game("straße", GameStatus.IN_PROGRESS, 6), "ß", true, false);
+        service.record(game("niño", GameStatus.IN_PROGRESS, 6), "ñ", true, false);
+        service.record(game("niño", GameStatus.IN_PROGRESS, 5), "ж", false, false);
+
+        Map<String, Long> guessed = service.getLetterStats(Difficulty.EASY).stream()
+                .filter(letter -> letter.getGuesses() > 0)
+                .collect(Collectors.toMap(LetterStatsResponse::getLetter, LetterStatsResponse::getGuesses));
+
+        assertEquals(Map.of("ä", 1L, "ß", 1L, "ñ", 1L, "other", 1L), guessed);
+    }
+
+    @Test
+    @DisplayName("Should restore the letters of a snapshot written before accented letters were counted")
+    void testRestore_BasicAlphabetSnapshot() throws Exception {
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(
+                Files.newOutputStream(Path.of(properties.getSnapshotFile()))))) {
+            out.writeInt(0x47414E31);
+            out.writeInt(Difficulty.values().length * 27);
+            for (int slot = 0; slot < Difficulty.values().length * 27; slot++) {
+                // 'b' and the other slot of EASY were guessed
+                boolean guessed = slot == 1 || slot == 26;
+                out.writeLong(guessed ? 2 : 0);
+                out.writeLong(guessed ? 1 : 0);
+                out.writeLong(0);
+            }
+            out.writeInt(0);
+        }
+
+        GuessAnalyticsService restored = new GuessAnalyticsService(properties);
+        restored.restore();
+
+        List<LetterStatsResponse> letters = restored.getLetterStats(Difficulty.EASY);
+        assertEquals(2, letters.get(1).getGuesses());
+        assertEquals(0.5, letters.get(1).getHitRate());
+        assertEquals(2, letters.get(letters.size() - 1).getGuesses());
+        assertEquals(0, restored.getLetterStats(Difficulty.MEDIUM).get(1).getGuesses());
+    }
+
+    private Game game(String word, GameStatus status, int remainingAttempts) {
+        return Game.builder()
+                .word(word)
+                .difficulty(Difficulty.EASY)
+                .status(status)
+                .remainingAttempts(remainingAttempts)
+                .build();
+    }
+}
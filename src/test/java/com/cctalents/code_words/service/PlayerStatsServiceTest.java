@@ -0,0 +1,171 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.StatsProperties;
+import com.cctalents.code_words.dto.PlayerStatsResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.PlayerStats;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.exception.NoPlayerFoundException;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class PlayerStatsServiceTest {
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @MockitoBean
+    private PlayerStatsRepository playerStatsRepository;
+
+    @MockitoBean
+    private GameRepository gameRepository;
+
+    @MockitoBean
+    private StatsProperties statsProperties;
+
+    @Test
+    @DisplayName("Should update games, streaks and averages when games are recorded")
+    void testRecordFinishedGame_UpdatesAggregates() {
+        when(statsProperties.getCacheSize()).thenReturn(10);
+        when(playerStatsRepository.findById("Streaker")).thenReturn(Optional.empty());
+        when(playerStatsRepository.save(any(PlayerStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        playerStatsService.recordFinishedGame(game("Streaker", GameStatus.WON, Difficulty.EASY, 4));
+        playerStatsService.recordFinishedGame(game("Streaker", GameStatus.WON, Difficulty.EASY, 2));
+        playerStatsService.recordFinishedGame(game("Streaker", GameStatus.LOST, Difficulty.HARD, 0));
+        playerStatsService.recordFinishedGame(game("Streaker", GameStatus.WON, Difficulty.HARD, 5));
+
+        PlayerStatsResponse result = playerStatsService.getStats("Streaker");
+
+        assertEquals(4, result.getGamesPlayed());
+        assertEquals(3, result.getGamesWon());
+        assertEquals(1, result.getGamesLost());
+        assertEquals(1, result.getCurrentStreak());
+        assertEquals(2, result.getBestStreak());
+        assertEquals(3.0, result.getAverageRemainingAttempts().get(Difficulty.EASY));
+        assertEquals(0.0, result.getAverageRemainingAttempts().get(Difficulty.MEDIUM));
+        assertEquals(2.5, result.getAverageRemainingAttempts().get(Difficulty.HARD));
+
+        // the player is hot in the cache, so only the first update needs a lookup
+        verify(playerStatsRepository, times(1)).findById("Streaker");
+        verify(playerStatsRepository, times(4)).save(any(PlayerStats.class));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used player when the cache is full")
+    void testGetStats_EvictsLeastRecentlyUsedPlayer() {
+        when(statsProperties.getCacheSize()).thenReturn(2);
+        when(playerStatsRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(playerStatsRepository.save(any(PlayerStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        playerStatsService.recordFinishedGame(game("Kept", GameStatus.WON, Difficulty.EASY, 4));
+        playerStatsService.recordFinishedGame(game("Evicted", GameStatus.WON, Difficulty.EASY, 4));
+        playerStatsService.getStats("Kept");
+        playerStatsService.recordFinishedGame(game("Newest", GameStatus.LOST, Difficulty.EASY, 0));
+        playerStatsService.recordFinishedGame(game("Kept", GameStatus.WON, Difficulty.EASY, 2));
+        playerStatsService.recordFinishedGame(game("Evicted", GameStatus.WON, Difficulty.EASY, 2));
+
+        verify(playerStatsRepository, times(1)).findById("Kept");
+        verify(playerStatsRepository, times(2)).findById("Evicted");
+    }
+
+    @Test
+    @DisplayName("Should not lose any game while players are evicted and loaded concurrently")
+    void testRecordFinishedGame_ConcurrentUpdatesWithEvictions() throws InterruptedException {
+        Map<String, PlayerStats> stored = new ConcurrentHashMap<>();
+        when(statsProperties.getCacheSize()).thenReturn(1);
+        when(playerStatsRepository.findById(anyString())).thenAnswer(invocation -> Optional
+                .ofNullable(stored.get(invocation.<String>getArgument(0)))
+                .map(PlayerStatsServiceTest::copy));
+        when(playerStatsRepository.save(any(PlayerStats.class))).thenAnswer(invocation -> {
+            PlayerStats stats = invocation.getArgument(0);
+            stored.put(stats.getPlayer(), copy(stats));
+            return stats;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 250; i++) {
+                    playerStatsService.recordFinishedGame(game("Busy" + i % 3, GameStatus.WON, Difficulty.EASY, 1));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        int played = 0;
+        for (int player = 0; player < 3; player++) {
+            played += stored.get("Busy" + player).getGamesPlayed();
+        }
+        assertEquals(1000, played);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the player has no finished games")
+    void testGetStats_UnknownPlayerThrowsException() {
+        when(playerStatsRepository.findById("Nobody")).thenReturn(Optional.empty());
+
+        assertThrows(NoPlayerFoundException.class, () -> playerStatsService.getStats("Nobody"));
+    }
+
+    @Test
+    @DisplayName("Should rebuild aggregates from finished games in creation order")
+    void testRebuild_ReplaysFinishedGames() {
+        when(statsProperties.getCacheSize()).thenReturn(10);
+        when(gameRepository.streamAllByStatusInOrderByIdAsc(anyCollection())).thenReturn(Stream.of(
+                game("Rebuilt", GameStatus.LOST, Difficulty.MEDIUM, 0),
+                game("Rebuilt", GameStatus.WON, Difficulty.MEDIUM, 3),
+                game("Other", GameStatus.WON, Difficulty.EASY, 6)));
+
+        int players = playerStatsService.rebuild();
+
+        assertEquals(2, players);
+        verify(playerStatsRepository, times(1)).deleteAll();
+        verify(playerStatsRepository, times(1)).saveAll(argThat(stats -> {
+            int count = 0;
+            for (PlayerStats playerStats : stats) {
+                if (playerStats.getPlayer().equals("Rebuilt")) {
+                    assertEquals(2, playerStats.getGamesPlayed());
+                    assertEquals(1, playerStats.getCurrentStreak());
+                }
+                count++;
+            }
+            return count == 2;
+        }));
+    }
+
+    private Game game(String player, GameStatus status, Difficulty difficulty, int remainingAttempts) {
+        return Game.builder()
+                .player(player)
+                .status(status)
+                .difficulty(difficulty)
+                .remainingAttempts(remainingAttempts)
+                .build();
+    }
+
+    private static PlayerStats copy(PlayerStats stats) {
+        PlayerStats copy = new PlayerStats(stats.getPlayer());
+        copy.setGamesPlayed(stats.getGamesPlayed());
+        return copy;
+    }
+}
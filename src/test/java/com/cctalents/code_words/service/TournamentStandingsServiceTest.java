@@ -0,0 +1,120 @@
+package com.cctalents.code_words.service;
+
+import com.cctalents.code_words.config.GameProperties;
+import com.cctalents.code_words.dto.StandingResponse;
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.entity.Tournament;
+import com.cctalents.code_words.entity.TournamentStanding;
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.enums.GameStatus;
+import com.cctalents.code_words.enums.TournamentStatus;
+import com.cctalents.code_words.repository.GameRepository;
+import com.cctalents.code_words.repository.TournamentRepository;
+import com.cctalents.code_words.repository.TournamentStandingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class TournamentStandingsServiceTest {
+
+    @Autowired
+    private TournamentStandingsService standingsService;
+
+    @MockitoBean
+    private TournamentRepository tournamentRepository;
+
+    @MockitoBean
+    private TournamentStandingRepository standingRepository;
+
+    @MockitoBean
+    private GameRepository gameRepository;
+
+    @MockitoBean
+    private GameProperties gameProperties;
+
+    @Test
+    @DisplayName("Should rank solved games by solve order ahead of unsolved games")
+    void testGetStandings_RanksBySolveOrder() {
+        Tournament tournament = tournament(1L);
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(gameRepository.findAllByTournamentIdOrderByIdAsc(1L)).thenReturn(List.of());
+        when(gameProperties.getAllowedAttempts(Difficulty.EASY)).thenReturn(6);
+
+        standingsService.onGameUpdated(game(10L, 1L, "Slow", null, 6));
+        standingsService.onGameUpdated(game(11L, 1L, "Fast", null, 6));
+        standingsService.onGameUpdated(game(12L, 1L, "Loser", GameStatus.LOST, 0));
+        standingsService.onGameUpdated(game(11L, 1L, "Fast", GameStatus.WON, 4));
+        standingsService.onGameUpdated(game(10L, 1L, "Slow", GameStatus.WON, 6));
+
+        List<StandingResponse> result = standingsService.getStandings(1L);
+
+        assertEquals(List.of("Fast", "Slow", "Loser"), result.stream().map(StandingResponse::getPlayer).toList());
+        assertEquals(1, result.get(0).getRank());
+        assertEquals(1, result.get(0).getSolvedOrder());
+        assertEquals(2, result.get(0).getAttemptsUsed());
+        assertEquals(2, result.get(1).getSolvedOrder());
+        assertNull(result.get(2).getSolvedOrder());
+        assertEquals(6, result.get(2).getAttemptsUsed());
+    }
+
+    @Test
+    @DisplayName("Should persist the final standings and ignore later updates when finished")
+    @SuppressWarnings("unchecked")
+    void testFinish_PersistsStandings() {
+        Tournament tournament = tournament(2L);
+        when(tournamentRepository.findById(2L)).thenReturn(Optional.of(tournament));
+        when(gameRepository.findAllByTournamentIdOrderByIdAsc(2L))
+                .thenReturn(List.of(game(20L, 2L, "Winner", GameStatus.WON, 5), game(21L, 2L, "Playing", null, 6)));
+        when(gameProperties.getAllowedAttempts(Difficulty.EASY)).thenReturn(6);
+
+        List<StandingResponse> result = standingsService.finish(tournament);
+        standingsService.onGameUpdated(game(21L, 2L, "Playing", GameStatus.WON, 6));
+
+        // the closed standings stay cached instead of being loaded again for the late update
+        assertTrue(standingsService.isFinished(2L));
+        verify(gameRepository, times(1)).findAllByTournamentIdOrderByIdAsc(2L);
+
+        assertEquals(TournamentStatus.FINISHED, tournament.getStatus());
+        assertEquals(List.of("Winner", "Playing"), result.stream().map(StandingResponse::getPlayer).toList());
+        ArgumentCaptor<Iterable<TournamentStanding>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(standingRepository).saveAll(captor.capture());
+        List<TournamentStanding> saved = (List<TournamentStanding>) captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(1, saved.get(0).getRank());
+        assertEquals(20L, saved.get(0).getGameId());
+        assertNull(saved.get(1).getSolvedOrder());
+        verify(tournamentRepository).save(tournament);
+    }
+
+    private Tournament tournament(Long id) {
+        return Tournament.builder()
+                .id(id)
+                .word("apple")
+                .difficulty(Difficulty.EASY)
+                .status(TournamentStatus.OPEN)
+                .build();
+    }
+
+    private Game game(Long id, Long tournamentId, String player, GameStatus status, int remainingAttempts) {
+        return Game.builder()
+                .id(id)
+                .tournamentId(tournamentId)
+                .player(player)
+                .word("apple")
+                .status(status)
+                .difficulty(Difficulty.EASY)
+                .remainingAttempts(remainingAttempts)
+                .build();
+    }
+}
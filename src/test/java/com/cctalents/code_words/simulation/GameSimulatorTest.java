@@ -0,0 +1,56 @@
+package com.cctalents.code_words.simulation;
+
+import com.cctalents.code_words.enums.Difficulty;
+import com.cctalents.code_words.solver.WordIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private final GameSimulator simulator = new GameSimulator();
+
+    @Test
+    @DisplayName("Should count the misses a deterministic strategy needs to solve the word")
+    void testSimulate_FrequencyStrategy() {
+        // e, t and a are the three most frequent letters, o and i are missed before n
+        SimulationResult result = simulator.simulate(Difficulty.EASY, List.of("tean"),
+                new FrequencyStrategy(), 1_000, 1L);
+
+        assertEquals(1_000, result.games());
+        assertEquals(1_000, result.missesHistogram()[2]);
+        assertEquals(0.0, result.winRate(2));
+        assertEquals(1.0, result.winRate(3));
+    }
+
+    @Test
+    @DisplayName("Should always solve the word and never do worse than random guessing with the optimal strategy")
+    void testSimulate_OptimalStrategy() {
+        List<String> words = List.of("apple", "cat", "sun", "book", "car");
+
+        SimulationResult optimal = simulator.simulate(Difficulty.EASY, words,
+                new OptimalStrategy(WordIndex.build(words)), 10_000, 7L);
+        SimulationResult random = simulator.simulate(Difficulty.EASY, words,
+                new RandomStrategy(), 10_000, 7L);
+
+        assertEquals(0, optimal.unsolved());
+        assertEquals(10_000, optimal.games());
+        for (int attempts = 1; attempts <= 10; attempts++) {
+            assertTrue(optimal.winRate(attempts) >= random.winRate(attempts));
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same results for the same seed")
+    void testSimulate_Reproducible() {
+        List<String> words = List.of("laptop", "jungle", "robot", "guitar", "pirate");
+
+        SimulationResult first = simulator.simulate(Difficulty.MEDIUM, words, new RandomStrategy(), 5_000, 3L);
+        SimulationResult second = simulator.simulate(Difficulty.MEDIUM, words, new RandomStrategy(), 5_000, 3L);
+
+        assertArrayEquals(first.missesHistogram(), second.missesHistogram());
+    }
+}
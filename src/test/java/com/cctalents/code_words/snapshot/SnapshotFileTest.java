@@ -0,0 +1,77 @@
+package com.cctalents.code_words.snapshot;
+
+import org.h2.tools.SimpleResultSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should read back every table, row and null written to a snapshot")
+    void testWriteAndRead_RoundTrip() throws IOException, SQLException {
+        SimpleResultSet games = new SimpleResultSet();
+        games.addColumn("id", Types.BIGINT, 19, 0);
+        games.addColumn("masked_word", Types.VARCHAR, 255, 0);
+        games.addColumn("remaining_attempts", Types.INTEGER, 10, 0);
+        games.addColumn("tournament_id", Types.BIGINT, 19, 0);
+        games.addRow(1L, "_pp__", 6, null);
+        games.addRow(2L, "é__", 0, 7L);
+        SimpleResultSet stats = new SimpleResultSet();
+        stats.addColumn("player", Types.VARCHAR, 255, 0);
+
+        Path file = directory.resolve("games.snap");
+        try (SnapshotWriter writer = new SnapshotWriter(file, 42L, 2)) {
+            writer.beginTable("games", List.of(
+                    new SnapshotColumn("id", SnapshotColumn.Kind.LONG),
+                    new SnapshotColumn("masked_word", SnapshotColumn.Kind.STRING),
+                    new SnapshotColumn("remaining_attempts", SnapshotColumn.Kind.INT),
+                    new SnapshotColumn("tournament_id", SnapshotColumn.Kind.LONG)));
+            while (games.next()) {
+                writer.writeRow(games);
+            }
+            writer.endTable();
+            writer.beginTable("player_stats", List.of(new SnapshotColumn("player", SnapshotColumn.Kind.STRING)));
+            writer.endTable();
+        }
+
+        try (SnapshotReader reader = new SnapshotReader(file)) {
+            assertEquals(42L, reader.getTakenAt());
+
+            assertTrue(reader.nextTable());
+            assertEquals("games", reader.getTable());
+            assertEquals(SnapshotColumn.Kind.INT, reader.getColumns().get(2).kind());
+            Object[] values = new Object[4];
+            assertTrue(reader.nextRow(values));
+            assertArrayEquals(new Object[]{1L, "_pp__", 6, null}, values);
+            assertTrue(reader.nextRow(values));
+            assertArrayEquals(new Object[]{2L, "é__", 0, 7L}, values);
+            assertFalse(reader.nextRow(values));
+
+            assertTrue(reader.nextTable());
+            assertEquals("player_stats", reader.getTable());
+            assertFalse(reader.nextRow(new Object[1]));
+            assertFalse(reader.nextTable());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots")
+    void testRead_RejectsOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("other.snap"), "not a snapshot");
+
+        assertThrows(IOException.class, () -> new SnapshotReader(file).close());
+    }
+}
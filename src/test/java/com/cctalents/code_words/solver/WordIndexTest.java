@@ -0,0 +1,61 @@
+package com.cctalents.code_words.solver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordIndexTest {
+
+    private final WordIndex index = WordIndex.build(List.of(
+            "cat", "car", "cab", "bat", "sun", "apple", "robot"));
+
+    @Test
+    @DisplayName("Should only count words matching the revealed letters and avoiding missed ones")
+    void testSuggest_FiltersCandidates() {
+        WordIndex.Hint hint = index.suggest("ca_", "t");
+
+        // car and cab are left, r and b split them equally
+        assertEquals(2, hint.candidates());
+        assertTrue(hint.letter() == 'b' || hint.letter() == 'r');
+    }
+
+    @Test
+    @DisplayName("Should not treat words with a revealed letter at a hidden position as candidates")
+    void testSuggest_RevealedLettersAreShownEverywhere() {
+        // the o of robot would be revealed at both positions
+        assertEquals(0, index.suggest("_o___", "").candidates());
+        assertEquals(1, index.suggest("_o_o_", "").candidates());
+    }
+
+    @Test
+    @DisplayName("Should suggest the letter that splits the candidates most evenly")
+    void testSuggest_MostInformativeLetter() {
+        // a is in cat, car, cab and bat but not in sun
+        WordIndex.Hint hint = index.suggest("___", "");
+
+        assertEquals(5, hint.candidates());
+        assertNotEquals('a', hint.letter());
+        assertTrue(hint.letter() == 'c' || hint.letter() == 't' || hint.letter() == 'b');
+    }
+
+    @Test
+    @DisplayName("Should suggest a letter of the word once it is the only candidate")
+    void testSuggest_SingleCandidate() {
+        WordIndex.Hint hint = index.suggest("s__", "");
+
+        assertEquals(1, hint.candidates());
+        assertTrue("un".indexOf(hint.letter()) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should return no letter when no word has the masked word's length")
+    void testSuggest_UnknownLength() {
+        WordIndex.Hint hint = index.suggest("__", "");
+
+        assertNull(hint.letter());
+        assertEquals(0, hint.candidates());
+    }
+}
@@ -0,0 +1,18 @@
+package com.cctalents.code_words.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameUtilTest {
+
+    @Test
+    @DisplayName("Should mask letters of any alphabet and leave other characters visible")
+    void testMask_NonAsciiLetters() {
+        assertEquals("_____", GameUtil.mask("apple"));
+        assertEquals("___________", GameUtil.mask("straßenbahn"));
+        assertEquals("__________", GameUtil.mask("murciélago"));
+        assertEquals("_____-____", GameUtil.mask("porte-clés"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.cctalents.code_words.util;
+
+import com.cctalents.code_words.entity.Game;
+import com.cctalents.code_words.enums.GameStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GuessFrameCodecTest {
+
+    @Test
+    @DisplayName("Should encode the full state of a game that has not been guessed yet")
+    void testSync_NewGame() {
+        Game game = Game.builder()
+                .maskedWord("_____")
+                .remainingAttempts(6)
+                .build();
+
+        assertEquals("S|P|6|_____", GuessFrameCodec.sync(game));
+    }
+
+    @Test
+    @DisplayName("Should only encode the positions revealed by the last guess")
+    void testDelta_RevealedPositions() {
+        Game game = Game.builder()
+                .maskedWord("ex____e")
+                .remainingAttempts(3)
+                .status(GameStatus.IN_PROGRESS)
+                .build();
+
+        assertEquals("D|P|3|0,6", GuessFrameCodec.delta("_x_____", game));
+    }
+
+    @Test
+    @DisplayName("Should encode an empty position list when the guess was wrong")
+    void testDelta_WrongGuess() {
+        Game game = Game.builder()
+                .maskedWord("_______")
+                .remainingAttempts(0)
+                .status(GameStatus.LOST)
+                .build();
+
+        assertEquals("D|L|0|", GuessFrameCodec.delta("_______", game));
+    }
+
+    @Test
+    @DisplayName("Should encode rejected guesses as error frames")
+    void testError() {
+        assertEquals("E|Game already finished", GuessFrameCodec.error("Game already finished"));
+    }
+}